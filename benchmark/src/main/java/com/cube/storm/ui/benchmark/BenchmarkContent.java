@@ -0,0 +1,187 @@
+package com.cube.storm.ui.benchmark;
+
+import com.cube.storm.UiSettings;
+import com.cube.storm.ui.lib.factory.FileFactory;
+import com.cube.storm.ui.lib.migration.LegacyImageViewProcessor;
+import com.cube.storm.ui.model.property.ImageProperty;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * Content and settings shared by the parser benchmarks. The example app's content is read from the directory in the
+ * {@value #CONTENT_PROPERTY} system property, which the {@code jmh} task points at {@code example/src/main/assets}.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class BenchmarkContent
+{
+	public static final String CONTENT_PROPERTY = "storm.content";
+
+	/**
+	 * Languages of the text in the synthetic pages, matching the number of languages in a typical multi-language bundle
+	 */
+	private static final String[] LANGUAGES = {"en", "fr", "de", "es", "it", "pt", "nl", "sv", "da", "fi", "ar", "zh"};
+
+	/**
+	 * Number of list items in each group of a synthetic page
+	 */
+	private static final int GROUP_SIZE = 50;
+
+	/**
+	 * Creates the settings the app would use, with the {@link LegacyImageViewProcessor} registered as it is in the example
+	 * app, and rebuilds the parser with them
+	 *
+	 * @param streamingParse Whether to use the streaming parser
+	 *
+	 * @return The settings
+	 */
+	public static UiSettings createSettings(boolean streamingParse)
+	{
+		UiSettings settings = new UiSettings(new FileFactory(getContentDirectory()));
+		settings.registerType(new TypeToken<ArrayList<ImageProperty>>(){}.getType(), new LegacyImageViewProcessor());
+		settings.setStreamingParse(streamingParse);
+		settings.getViewBuilder().rebuild();
+
+		return settings;
+	}
+
+	public static File getContentDirectory()
+	{
+		String path = System.getProperty(CONTENT_PROPERTY);
+
+		if (path == null)
+		{
+			throw new IllegalStateException("Set -D" + CONTENT_PROPERTY + " to the content directory");
+		}
+
+		return new File(path);
+	}
+
+	/**
+	 * Reads a file of the example content
+	 *
+	 * @param path The path of the file in the content directory
+	 *
+	 * @return The file contents
+	 */
+	public static byte[] read(String path) throws IOException
+	{
+		InputStream stream = new FileInputStream(new File(getContentDirectory(), path));
+
+		try
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+
+			while ((read = stream.read(buffer)) != -1)
+			{
+				out.write(buffer, 0, read);
+			}
+
+			return out.toByteArray();
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Creates a list page of standard list items, each with a title and description in every language, 4 image variants
+	 * and an internal link
+	 *
+	 * @param itemCount The number of list items
+	 *
+	 * @return The page json
+	 */
+	public static byte[] createListPage(int itemCount)
+	{
+		JsonArray groups = new JsonArray();
+		JsonArray children = null;
+
+		for (int index = 0; index < itemCount; index++)
+		{
+			if (index % GROUP_SIZE == 0)
+			{
+				children = new JsonArray();
+
+				JsonObject group = new JsonObject();
+				group.addProperty("class", "List");
+				group.add("header", createText("Group " + (index / GROUP_SIZE)));
+				group.add("children", children);
+				groups.add(group);
+			}
+
+			JsonArray images = new JsonArray();
+
+			for (String density : new String[]{"x0.75", "x1", "x1.5", "x2"})
+			{
+				JsonObject src = new JsonObject();
+				src.addProperty("class", "DestinationLink");
+				src.addProperty("destination", "cache://content/item_" + index + "_" + density + ".png");
+
+				JsonObject dimensions = new JsonObject();
+				dimensions.addProperty("width", 512);
+				dimensions.addProperty("height", 512);
+
+				JsonObject image = new JsonObject();
+				image.addProperty("class", "Image");
+				image.add("src", src);
+				image.add("dimensions", dimensions);
+				image.addProperty("mime", "image/png");
+				images.add(image);
+			}
+
+			JsonObject link = new JsonObject();
+			link.addProperty("class", "InternalLink");
+			link.add("title", createText("Open item " + index));
+			link.addProperty("destination", "cache://pages/" + index + ".json");
+
+			JsonObject item = new JsonObject();
+			item.addProperty("class", "StandardListItem");
+			item.addProperty("id", "item_" + index);
+			item.add("title", createText("Item " + index));
+			item.add("description", createText("The description of item " + index + ", long enough to wrap onto a second line"));
+			item.add("image", images);
+			item.add("link", link);
+			children.add(item);
+		}
+
+		JsonObject page = new JsonObject();
+		page.addProperty("class", "ListPage");
+		page.addProperty("id", "synthetic");
+		page.addProperty("name", "synthetic");
+		page.add("title", createText("Synthetic page"));
+		page.add("children", groups);
+
+		return new Gson().toJson(page).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static JsonObject createText(String text)
+	{
+		JsonObject content = new JsonObject();
+
+		for (String language : LANGUAGES)
+		{
+			content.addProperty(language, text + " (" + language + ")");
+		}
+
+		JsonObject property = new JsonObject();
+		property.addProperty("class", "Text");
+		property.add("content", content);
+
+		return property;
+	}
+}
@@ -0,0 +1,58 @@
+package com.cube.storm.ui.benchmark;
+
+import com.cube.storm.ui.lib.parser.ViewBuilder;
+import com.cube.storm.ui.model.App;
+import com.cube.storm.ui.model.page.TabbedPageCollection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the app and tabbed page of the example app's content. Each operation builds one file, see
+ * {@link ExamplePageBenchmark} for the list pages.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+@BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2) @Measurement(iterations = 5, time = 2) @Fork(1)
+@State(Scope.Benchmark)
+public class ExampleContentBenchmark
+{
+	@Param({"false", "true"})
+	public boolean streamingParse;
+
+	private ViewBuilder viewBuilder;
+	private byte[] app;
+	private byte[] tabbedPage;
+
+	@Setup public void setUp() throws IOException
+	{
+		viewBuilder = BenchmarkContent.createSettings(streamingParse).getViewBuilder();
+
+		app = BenchmarkContent.read("app.json");
+		tabbedPage = BenchmarkContent.read("pages/2.json");
+	}
+
+	@Benchmark public App buildApp()
+	{
+		return viewBuilder.buildApp(app);
+	}
+
+	@Benchmark public TabbedPageCollection buildTabbedPage()
+	{
+		return viewBuilder.buildTabbedPage(tabbedPage);
+	}
+}
@@ -0,0 +1,52 @@
+package com.cube.storm.ui.benchmark;
+
+import com.cube.storm.ui.lib.parser.ViewBuilder;
+import com.cube.storm.ui.model.page.Page;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the list pages of the example app's content. Each operation builds one page.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+@BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2) @Measurement(iterations = 5, time = 2) @Fork(1)
+@State(Scope.Benchmark)
+public class ExamplePageBenchmark
+{
+	@Param({"false", "true"})
+	public boolean streamingParse;
+
+	@Param({"pages/1.json", "pages/3.json", "pages/4.json"})
+	public String listPage;
+
+	private ViewBuilder viewBuilder;
+	private byte[] page;
+
+	@Setup public void setUp() throws IOException
+	{
+		viewBuilder = BenchmarkContent.createSettings(streamingParse).getViewBuilder();
+
+		page = BenchmarkContent.read(listPage);
+	}
+
+	@Benchmark public Page buildPage()
+	{
+		return viewBuilder.buildPage(page);
+	}
+}
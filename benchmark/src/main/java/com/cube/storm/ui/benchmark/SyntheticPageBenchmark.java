@@ -0,0 +1,51 @@
+package com.cube.storm.ui.benchmark;
+
+import com.cube.storm.ui.lib.parser.ViewBuilder;
+import com.cube.storm.ui.model.page.Page;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses generated list pages of up to 10k standard list items with text in 12 languages, to show how the parser scales
+ * with page size. Each operation builds one page.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+@BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5) @Measurement(iterations = 5, time = 5) @Fork(1)
+@State(Scope.Benchmark)
+public class SyntheticPageBenchmark
+{
+	@Param({"false", "true"})
+	public boolean streamingParse;
+
+	@Param({"100", "1000", "10000"})
+	public int itemCount;
+
+	private ViewBuilder viewBuilder;
+	private byte[] page;
+
+	@Setup public void setUp()
+	{
+		viewBuilder = BenchmarkContent.createSettings(streamingParse).getViewBuilder();
+		page = BenchmarkContent.createListPage(itemCount);
+	}
+
+	@Benchmark public Page buildPage()
+	{
+		return viewBuilder.buildPage(page);
+	}
+}
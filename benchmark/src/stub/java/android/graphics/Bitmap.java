@@ -0,0 +1,8 @@
+package android.graphics;
+
+/**
+ * JVM stand-in for {@code android.graphics.Bitmap}
+ */
+public final class Bitmap
+{
+}
@@ -0,0 +1,22 @@
+package android.graphics;
+
+import java.io.InputStream;
+
+/**
+ * JVM stand-in for {@code android.graphics.BitmapFactory}. Images are never decoded, so the sizes reported are always 0
+ * and {@link com.cube.storm.ui.lib.migration.LegacyImageViewProcessor} falls back to its default dimensions.
+ */
+public class BitmapFactory
+{
+	public static class Options
+	{
+		public boolean inJustDecodeBounds;
+		public int outWidth;
+		public int outHeight;
+	}
+
+	public static Bitmap decodeStream(InputStream is, Rect outPadding, Options opts)
+	{
+		return null;
+	}
+}
@@ -0,0 +1,17 @@
+package android.graphics;
+
+/**
+ * JVM stand-in for {@code android.graphics.Rect}
+ */
+public final class Rect
+{
+	public int left, top, right, bottom;
+
+	public Rect(int left, int top, int right, int bottom)
+	{
+		this.left = left;
+		this.top = top;
+		this.right = right;
+		this.bottom = bottom;
+	}
+}
@@ -0,0 +1,40 @@
+package android.net;
+
+/**
+ * JVM stand-in for the parts of {@code android.net.Uri} used by the parser
+ */
+public final class Uri
+{
+	private final String uri;
+
+	private Uri(String uri)
+	{
+		this.uri = uri;
+	}
+
+	public static Uri parse(String uri)
+	{
+		return new Uri(uri);
+	}
+
+	public String getScheme()
+	{
+		int index = uri.indexOf(':');
+		return index > 0 ? uri.substring(0, index) : null;
+	}
+
+	@Override public boolean equals(Object other)
+	{
+		return other instanceof Uri && ((Uri)other).uri.equals(uri);
+	}
+
+	@Override public int hashCode()
+	{
+		return uri.hashCode();
+	}
+
+	@Override public String toString()
+	{
+		return uri;
+	}
+}
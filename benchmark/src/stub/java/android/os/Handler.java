@@ -0,0 +1,17 @@
+package android.os;
+
+/**
+ * JVM stand-in for {@code android.os.Handler}. There is no main thread, posted runnables are run straight away.
+ */
+public class Handler
+{
+	public Handler(Looper looper)
+	{
+	}
+
+	public final boolean post(Runnable runnable)
+	{
+		runnable.run();
+		return true;
+	}
+}
@@ -0,0 +1,14 @@
+package android.os;
+
+/**
+ * JVM stand-in for {@code android.os.Looper}
+ */
+public final class Looper
+{
+	private static final Looper mainLooper = new Looper();
+
+	public static Looper getMainLooper()
+	{
+		return mainLooper;
+	}
+}
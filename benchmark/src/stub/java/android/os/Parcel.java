@@ -0,0 +1,8 @@
+package android.os;
+
+/**
+ * JVM stand-in for {@code android.os.Parcel}, which the models only use in method signatures
+ */
+public final class Parcel
+{
+}
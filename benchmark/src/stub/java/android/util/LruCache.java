@@ -0,0 +1,93 @@
+package android.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JVM stand-in for {@code android.util.LruCache}, counting every entry as one
+ */
+public class LruCache<K, V>
+{
+	private final LinkedHashMap<K, V> map = new LinkedHashMap<>(0, 0.75f, true);
+	private int maxSize;
+	private int hitCount;
+	private int missCount;
+
+	public LruCache(int maxSize)
+	{
+		if (maxSize <= 0)
+		{
+			throw new IllegalArgumentException("maxSize <= 0");
+		}
+
+		this.maxSize = maxSize;
+	}
+
+	public synchronized final V get(K key)
+	{
+		V value = map.get(key);
+
+		if (value != null)
+		{
+			hitCount++;
+		}
+		else
+		{
+			missCount++;
+		}
+
+		return value;
+	}
+
+	public synchronized final V put(K key, V value)
+	{
+		V previous = map.put(key, value);
+		trimToSize(maxSize);
+		return previous;
+	}
+
+	public synchronized final V remove(K key)
+	{
+		return map.remove(key);
+	}
+
+	public synchronized void resize(int maxSize)
+	{
+		this.maxSize = maxSize;
+		trimToSize(maxSize);
+	}
+
+	public synchronized void trimToSize(int maxSize)
+	{
+		while (map.size() > maxSize)
+		{
+			Map.Entry<K, V> eldest = map.entrySet().iterator().next();
+			map.remove(eldest.getKey());
+		}
+	}
+
+	public synchronized final void evictAll()
+	{
+		map.clear();
+	}
+
+	public synchronized final int size()
+	{
+		return map.size();
+	}
+
+	public synchronized final int maxSize()
+	{
+		return maxSize;
+	}
+
+	public synchronized final int hitCount()
+	{
+		return hitCount;
+	}
+
+	public synchronized final int missCount()
+	{
+		return missCount;
+	}
+}
@@ -0,0 +1,174 @@
+package com.cube.storm;
+
+import com.cube.storm.ui.lib.factory.FileFactory;
+import com.cube.storm.ui.lib.parser.ModelRegistration;
+import com.cube.storm.ui.lib.parser.ViewBuilder;
+import com.cube.storm.ui.lib.parser.ViewProcessor;
+import com.cube.storm.ui.lib.resolver.ViewResolver;
+import com.cube.storm.ui.model.App;
+import com.cube.storm.ui.model.Model;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * JVM stand-in for the library's {@code UiSettings}, with only the settings read by the parser. The real class needs a
+ * {@code Context} to build. The models and processors are registered from {@link ModelRegistration}, the same as
+ * {@code UiSettings.Builder}.
+ */
+public class UiSettings
+{
+	private static UiSettings instance;
+
+	private final Map<Type, ViewProcessor> viewProcessors = new LinkedHashMap<>();
+	private final Map<String, ViewResolver> viewResolvers = new HashMap<>();
+	private final ViewBuilder viewBuilder = new ViewBuilder(){};
+	private final Executor backgroundExecutor = new Executor()
+	{
+		@Override public void execute(Runnable command)
+		{
+			command.run();
+		}
+	};
+
+	private FileFactory fileFactory;
+	private App app;
+	private boolean streamingParse = false;
+	private boolean pruneLanguages = false;
+	private int pageCacheSize = 0;
+	private int stringPoolSize = 0;
+	private String defaultLanguageUri = "";
+
+	public static UiSettings getInstance()
+	{
+		if (instance == null)
+		{
+			throw new IllegalAccessError("You must create the Ui settings object first");
+		}
+
+		return instance;
+	}
+
+	/**
+	 * Creates the settings and makes them the current instance
+	 *
+	 * @param fileFactory The factory used to load content uris
+	 */
+	public UiSettings(FileFactory fileFactory)
+	{
+		this.fileFactory = fileFactory;
+		instance = this;
+
+		for (Map.Entry<String, Class<? extends Model>> model : ModelRegistration.getModels().entrySet())
+		{
+			registerModel(model.getKey(), model.getValue());
+		}
+
+		viewProcessors.putAll(ModelRegistration.getViewProcessors());
+	}
+
+	private void registerModel(String name, final Class<? extends Model> model)
+	{
+		viewResolvers.put(name, new ViewResolver()
+		{
+			@Override public Class<? extends Model> resolveModel()
+			{
+				return model;
+			}
+		});
+	}
+
+	public UiSettings registerType(Type instanceClass, ViewProcessor processor)
+	{
+		viewProcessors.put(instanceClass, processor);
+		return this;
+	}
+
+	public Map<Type, ViewProcessor> getViewProcessors()
+	{
+		return viewProcessors;
+	}
+
+	public Map<String, ViewResolver> getViewResolvers()
+	{
+		return viewResolvers;
+	}
+
+	public ViewBuilder getViewBuilder()
+	{
+		return viewBuilder;
+	}
+
+	public Executor getBackgroundExecutor()
+	{
+		return backgroundExecutor;
+	}
+
+	public FileFactory getFileFactory()
+	{
+		return fileFactory;
+	}
+
+	public App getApp()
+	{
+		return app;
+	}
+
+	public void setApp(App app)
+	{
+		this.app = app;
+	}
+
+	public boolean isStreamingParse()
+	{
+		return streamingParse;
+	}
+
+	public void setStreamingParse(boolean streamingParse)
+	{
+		this.streamingParse = streamingParse;
+	}
+
+	public boolean isPruneLanguages()
+	{
+		return pruneLanguages;
+	}
+
+	public void setPruneLanguages(boolean pruneLanguages)
+	{
+		this.pruneLanguages = pruneLanguages;
+	}
+
+	public int getPageCacheSize()
+	{
+		return pageCacheSize;
+	}
+
+	public void setPageCacheSize(int pageCacheSize)
+	{
+		this.pageCacheSize = pageCacheSize;
+	}
+
+	public int getStringPoolSize()
+	{
+		return stringPoolSize;
+	}
+
+	public void setStringPoolSize(int stringPoolSize)
+	{
+		this.stringPoolSize = stringPoolSize;
+	}
+
+	public String getDefaultLanguageUri()
+	{
+		return defaultLanguageUri;
+	}
+
+	public void setDefaultLanguageUri(String defaultLanguageUri)
+	{
+		this.defaultLanguageUri = defaultLanguageUri;
+	}
+}
@@ -0,0 +1,41 @@
+package com.cube.storm.ui.lib.factory;
+
+import android.net.Uri;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+
+/**
+ * JVM stand-in for the library's {@code FileFactory}. {@code assets://} uris are loaded from the content directory, other
+ * uris are not loaded.
+ */
+public class FileFactory
+{
+	private final File assets;
+
+	public FileFactory(File assets)
+	{
+		this.assets = assets;
+	}
+
+	public InputStream loadFromUri(Uri fileUri)
+	{
+		String uri = fileUri.toString();
+
+		if (!uri.startsWith("assets://"))
+		{
+			return null;
+		}
+
+		try
+		{
+			return new FileInputStream(new File(assets, uri.substring("assets://".length())));
+		}
+		catch (FileNotFoundException e)
+		{
+			return null;
+		}
+	}
+}
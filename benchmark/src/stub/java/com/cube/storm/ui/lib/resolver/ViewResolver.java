@@ -0,0 +1,11 @@
+package com.cube.storm.ui.lib.resolver;
+
+import com.cube.storm.ui.model.Model;
+
+/**
+ * JVM stand-in for the library's {@code ViewResolver}, without the view holder that needs Android
+ */
+public abstract class ViewResolver
+{
+	public abstract Class<? extends Model> resolveModel();
+}
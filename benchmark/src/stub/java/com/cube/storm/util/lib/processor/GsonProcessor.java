@@ -0,0 +1,20 @@
+package com.cube.storm.util.lib.processor;
+
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+
+/**
+ * JVM stand-in for the Storm util library's {@code GsonProcessor}, which is only published as an Android library
+ */
+public abstract class GsonProcessor<T> implements JsonDeserializer<T>
+{
+	public JsonElement preInflate(JsonElement json)
+	{
+		return json;
+	}
+
+	public T postInflate(T object)
+	{
+		return object;
+	}
+}
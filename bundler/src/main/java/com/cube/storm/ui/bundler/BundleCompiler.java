@@ -0,0 +1,208 @@
+package com.cube.storm.ui.bundler;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Build time compiler that packs the json files of a Storm content bundle ({@code app.json}, {@code pages/*.json} etc)
+ * into a single indexed file that can be memory mapped by {@code com.cube.storm.ui.lib.bundle.ContentBundle}.
+ * <p/>
+ * Every file is re-written as minified json with the {@code "class"} member moved to the front of each object, so the
+ * streaming parser can bind each object as soon as it starts reading it.
+ * <p/>
+ * File layout, big endian:
+ * <pre>
+ * magic       8 bytes, "STRMBNDL"
+ * version     int
+ * count       int
+ * index       count * (int path length, utf-8 path, int offset, int length)
+ * data        the minified json of each entry, at the offsets in the index
+ * </pre>
+ * Usage: {@code ./gradlew :bundler:run --args="<content dir> <output file>"}
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class BundleCompiler
+{
+	public static final byte[] MAGIC = {'S', 'T', 'R', 'M', 'B', 'N', 'D', 'L'};
+	public static final int VERSION = 1;
+
+	private final Gson gson = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 2)
+		{
+			System.err.println("Usage: BundleCompiler <content dir> <output file>");
+			System.exit(1);
+		}
+
+		File contentDir = new File(args[0]);
+		File output = new File(args[1]);
+
+		int count = new BundleCompiler().compile(contentDir, output);
+		System.out.println("Bundled " + count + " files into " + output + " (" + output.length() + " bytes)");
+	}
+
+	/**
+	 * Compiles every json file in the content directory into a single bundle
+	 *
+	 * @param contentDir The root of the content, paths in the bundle are relative to this directory
+	 * @param output The bundle file to write
+	 *
+	 * @return The number of files in the bundle
+	 */
+	public int compile(File contentDir, File output) throws IOException
+	{
+		List<String> paths = new ArrayList<>();
+		collect(contentDir, "", paths);
+		Collections.sort(paths);
+
+		List<byte[]> paths8 = new ArrayList<>(paths.size());
+		List<byte[]> data = new ArrayList<>(paths.size());
+		int indexSize = 0;
+
+		for (String path : paths)
+		{
+			byte[] path8 = path.getBytes(StandardCharsets.UTF_8);
+			paths8.add(path8);
+			data.add(minify(new File(contentDir, path)));
+
+			indexSize += 4 + path8.length + 4 + 4;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		out.write(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(paths.size());
+
+		int offset = MAGIC.length + 4 + 4 + indexSize;
+		for (int index = 0; index < paths.size(); index++)
+		{
+			out.writeInt(paths8.get(index).length);
+			out.write(paths8.get(index));
+			out.writeInt(offset);
+			out.writeInt(data.get(index).length);
+
+			offset += data.get(index).length;
+		}
+
+		for (byte[] entry : data)
+		{
+			out.write(entry);
+		}
+
+		out.flush();
+
+		FileOutputStream file = new FileOutputStream(output);
+
+		try
+		{
+			bytes.writeTo(file);
+		}
+		finally
+		{
+			file.close();
+		}
+
+		return paths.size();
+	}
+
+	private void collect(File dir, String prefix, List<String> paths)
+	{
+		File[] files = dir.listFiles();
+
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			if (file.isDirectory())
+			{
+				collect(file, prefix + file.getName() + "/", paths);
+			}
+			else if (file.getName().endsWith(".json"))
+			{
+				paths.add(prefix + file.getName());
+			}
+		}
+	}
+
+	private byte[] minify(File file) throws IOException
+	{
+		Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+
+		try
+		{
+			JsonElement json = JsonParser.parseReader(reader);
+			return gson.toJson(classFirst(json)).getBytes(StandardCharsets.UTF_8);
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+
+	/**
+	 * Rebuilds the element with the {@code "class"} member first in every object
+	 */
+	private JsonElement classFirst(JsonElement element)
+	{
+		if (element.isJsonArray())
+		{
+			JsonArray array = new JsonArray();
+
+			for (JsonElement child : element.getAsJsonArray())
+			{
+				array.add(classFirst(child));
+			}
+
+			return array;
+		}
+		else if (element.isJsonObject())
+		{
+			JsonObject source = element.getAsJsonObject();
+			JsonObject object = new JsonObject();
+
+			if (source.has("class"))
+			{
+				object.add("class", source.get("class"));
+			}
+
+			for (Map.Entry<String, JsonElement> member : source.entrySet())
+			{
+				if (!"class".equals(member.getKey()))
+				{
+					object.add(member.getKey(), classFirst(member.getValue()));
+				}
+			}
+
+			return object;
+		}
+
+		return element;
+	}
+}
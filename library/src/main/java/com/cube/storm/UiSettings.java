@@ -11,7 +11,9 @@ import com.cube.storm.ui.lib.EventHook;
 import com.cube.storm.ui.lib.factory.FileFactory;
 import com.cube.storm.ui.lib.factory.IntentFactory;
 import com.cube.storm.ui.lib.handler.LinkHandler;
+import com.cube.storm.ui.lib.helper.LocaleHelper;
 import com.cube.storm.ui.lib.helper.ViewHelper;
+import com.cube.storm.ui.lib.parser.ModelRegistration;
 import com.cube.storm.ui.lib.parser.ViewBuilder;
 import com.cube.storm.ui.lib.parser.ViewProcessor;
 import com.cube.storm.ui.lib.processor.TextProcessor;
@@ -25,13 +27,13 @@ import com.cube.storm.ui.lib.spec.ChevronSpec;
 import com.cube.storm.ui.lib.spec.DividerSpec;
 import com.cube.storm.ui.lib.spec.ListDividerSpec;
 import com.cube.storm.ui.model.App;
-import com.cube.storm.ui.model.Model;
 import com.cube.storm.ui.model.descriptor.PageDescriptor;
-import com.cube.storm.ui.model.list.ListItem;
-import com.cube.storm.ui.model.list.collection.CollectionItem;
-import com.cube.storm.ui.model.page.Page;
-import com.cube.storm.ui.model.property.LinkProperty;
 import com.cube.storm.ui.model.property.TextProperty;
+import com.cube.storm.ui.view.holder.ViewHolderFactory;
+import com.cube.storm.ui.view.holder.list.DividerViewHolder;
+import com.cube.storm.ui.view.holder.list.ListFooterViewHolder;
+import com.cube.storm.ui.view.holder.list.ListHeaderViewHolder;
+import com.cube.storm.ui.view.holder.list.StandardListItemViewHolder;
 import com.cube.storm.util.lib.processor.Processor;
 import com.cube.storm.util.lib.resolver.AssetsResolver;
 import com.cube.storm.util.lib.resolver.FileResolver;
@@ -49,6 +51,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * This is the entry point class of the library. To enable the use of the library, you must instantiate
@@ -122,6 +126,36 @@ public class UiSettings
 	 */
 	@Getter @Setter private Map<Type, ViewProcessor> viewProcessors = new LinkedHashMap<Type, ViewProcessor>(0);
 
+	/**
+	 * Whether {@link com.cube.storm.ui.lib.parser.ViewBuilder} binds the types in {@link #viewProcessors} straight from the
+	 * json stream using {@link com.cube.storm.ui.lib.parser.ViewTypeAdapterFactory} instead of building a json tree per
+	 * object. Call {@link com.cube.storm.ui.lib.parser.ViewBuilder#rebuild()} after changing this.
+	 */
+	@Getter @Setter private boolean streamingParse = false;
+
+	/**
+	 * Whether {@link com.cube.storm.ui.lib.parser.ViewBuilder} keeps only the languages in
+	 * {@link com.cube.storm.ui.lib.helper.LocaleHelper#getLanguages()} when parsing text. Pages are parsed again when the
+	 * language changes.
+	 */
+	@Getter @Setter private boolean pruneLanguages = false;
+
+	/**
+	 * Maximum number of built pages kept in memory by {@link com.cube.storm.ui.lib.parser.ViewBuilder}. 0 disables the page cache.
+	 */
+	@Getter @Setter private int pageCacheSize = 0;
+
+	/**
+	 * Maximum number of short strings shared between parsed models by {@link com.cube.storm.ui.lib.parser.StringPool}.
+	 * 0 disables string pooling. Call {@link com.cube.storm.ui.lib.parser.ViewBuilder#rebuild()} after changing this.
+	 */
+	@Getter @Setter private int stringPoolSize = 0;
+
+	/**
+	 * Executor used for work moved off the main thread, such as {@link com.cube.storm.ui.lib.parser.ViewBuilder#buildPageAsync(android.net.Uri, com.cube.storm.ui.lib.parser.ViewBuilder.OnBuildListener)}
+	 */
+	@Getter @Setter private Executor backgroundExecutor = Executors.newSingleThreadExecutor();
+
 	/**
 	 * Image loader which is used when displaying images in the list
 	 */
@@ -182,13 +216,73 @@ public class UiSettings
 	/**
 	 * Default language Uri
 	 */
-	@Getter @Setter private String defaultLanguageUri = "";
+	@Getter private String defaultLanguageUri = "";
 	
 	/**
 	 * Chevron spec to use for {@link com.cube.storm.ui.view.holder.list.StandardListItemViewHolder}s throughout the app
 	 */
 	@Getter @Setter private ChevronSpec chevronSpec;
 
+	/**
+	 * Maximum number of recycled holders kept per holder factory in the shared {@link com.cube.storm.ui.lib.helper.RecycledViewPoolHelper}
+	 * pool. Types not in the map use the {@link androidx.recyclerview.widget.RecyclerView.RecycledViewPool} default of 5.
+	 */
+	@Getter @Setter private Map<Class<? extends ViewHolderFactory>, Integer> recycledViewPoolSizes = new HashMap<>();
+
+	/**
+	 * Number of holders per holder factory created ahead of time in the shared {@link com.cube.storm.ui.lib.helper.RecycledViewPoolHelper}
+	 * pool when the first list is shown. Empty by default.
+	 */
+	@Getter @Setter private Map<Class<? extends ViewHolderFactory>, Integer> prewarmViewHolders = new LinkedHashMap<>();
+
+	/**
+	 * Maximum number of holders of each view type created on a background thread when a list is shown, see
+	 * {@link com.cube.storm.ui.controller.adapter.StormListAdapter#preInflate(android.view.ViewGroup)}. 0 disables pre-inflation.
+	 */
+	@Getter @Setter private int preInflateCount = 0;
+
+	/**
+	 * Number of rows ahead of the visible rows whose images are loaded while a list is scrolling, see
+	 * {@link com.cube.storm.ui.controller.adapter.ImagePrefetcher}. 0 disables prefetching.
+	 */
+	@Getter @Setter private int imagePrefetchCount = 0;
+
+	/**
+	 * Holder factory instances, keyed by their class. Factories are created once and shared by every list, use
+	 * {@link #getViewHolderFactory(Class)} to get one.
+	 */
+	@Getter private Map<Class<? extends ViewHolderFactory>, ViewHolderFactory> viewHolderFactories = new HashMap<>();
+
+	/**
+	 * Gets the shared instance of a holder factory, creating it the first time it is requested unless an instance was
+	 * registered with {@link Builder#registerViewHolderFactory(ViewHolderFactory)} or {@link com.cube.storm.ui.lib.resolver.DefaultViewResolver#withFactory(Class, ViewHolderFactory)}
+	 *
+	 * @param factoryClass The holder factory class
+	 *
+	 * @return The holder factory instance
+	 */
+	@NonNull
+	public synchronized ViewHolderFactory getViewHolderFactory(@NonNull Class<? extends ViewHolderFactory> factoryClass)
+	{
+		ViewHolderFactory factory = viewHolderFactories.get(factoryClass);
+
+		if (factory == null)
+		{
+			try
+			{
+				factory = factoryClass.getConstructor().newInstance();
+			}
+			catch (Exception e)
+			{
+				throw new IllegalStateException("Could not instantiate holder factory " + factoryClass.getName(), e);
+			}
+
+			viewHolderFactories.put(factoryClass, factory);
+		}
+
+		return factory;
+	}
+
 	/**
 	 * Sets the app model of the content
 	 *
@@ -197,6 +291,22 @@ public class UiSettings
 	public void setApp(@NonNull App app)
 	{
 		this.app = app;
+
+		if (viewBuilder != null)
+		{
+			viewBuilder.clearPageCache();
+		}
+	}
+
+	/**
+	 * Sets the default language uri, invalidating the text resolved with the previous default language
+	 *
+	 * @param defaultLanguageUri The language uri of the default language
+	 */
+	public void setDefaultLanguageUri(String defaultLanguageUri)
+	{
+		this.defaultLanguageUri = defaultLanguageUri;
+		LocaleHelper.invalidate();
 	}
 
 	/**
@@ -240,25 +350,10 @@ public class UiSettings
 			registerViewResolver(ViewHelper.getViewResolvers());
 
 			// Register view resolvers for Gson adapters
-			ViewProcessor<? extends Model> baseProcessor = new ViewProcessor<Model>()
+			for (Map.Entry<Type, ViewProcessor> processor : ModelRegistration.getViewProcessors().entrySet())
 			{
-				@Override public Class<? extends Model> getClassFromName(String name)
-				{
-					ViewResolver resolver = UiSettings.getInstance().getViewResolvers().get(name);
-
-					if (resolver != null)
-					{
-						return resolver.resolveModel();
-					}
-
-					return null;
-				}
-			};
-
-			registerType(Page.class, baseProcessor);
-			registerType(ListItem.class, baseProcessor);
-			registerType(CollectionItem.class, baseProcessor);
-			registerType(LinkProperty.class, baseProcessor);
+				registerType(processor.getKey(), processor.getValue());
+			}
 
 			registerUriResolver("file", new FileResolver());
 			registerUriResolver("assets", new AssetsResolver(this.context));
@@ -267,6 +362,11 @@ public class UiSettings
 			viewBuilder(new ViewBuilder(){});
 			dividerSpec(new ListDividerSpec());
 			chevronSpec(ChevronSpec.noChevronSpec());
+
+			recycledViewPoolSize(StandardListItemViewHolder.Factory.class, 15);
+			recycledViewPoolSize(DividerViewHolder.Factory.class, 15);
+			recycledViewPoolSize(ListHeaderViewHolder.Factory.class, 10);
+			recycledViewPoolSize(ListFooterViewHolder.Factory.class, 10);
 		}
 
 		/**
@@ -430,7 +530,7 @@ public class UiSettings
 		 */
 		public Builder setDefaultLanguageUri(String languageUri)
 		{
-			construct.defaultLanguageUri = languageUri;
+			construct.setDefaultLanguageUri(languageUri);
 			return this;
 		}
 
@@ -460,6 +560,82 @@ public class UiSettings
 			return this;
 		}
 
+		/**
+		 * Sets whether pages should be parsed straight from the json stream, without building an intermediate json tree
+		 * for every view. Processors which override {@link com.cube.storm.ui.lib.parser.ViewProcessor#preInflate(com.google.gson.JsonElement)}
+		 * are still given the json tree.
+		 *
+		 * @param streamingParse True to enable streaming parsing, defaults to false
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder streamingParse(boolean streamingParse)
+		{
+			construct.streamingParse = streamingParse;
+			return this;
+		}
+
+		/**
+		 * Sets whether text should only keep the content for the active language and its fallbacks when pages are parsed,
+		 * in a compact {@link com.cube.storm.ui.data.LanguageMap}. Pages in the page cache are not returned once the
+		 * language changes, call {@link com.cube.storm.ui.lib.helper.LocaleHelper#invalidate()} after switching language
+		 * without changing the default locale, for example from a {@link com.cube.storm.ui.view.LanguageAdapter} spinner.
+		 * Pages that are already shown and the {@link App} only hold the languages they were parsed with, so the app must
+		 * build the {@link App} again and recreate its activities after switching language. The storm fragments do not
+		 * save pruned pages in their instance state, so recreated fragments build their page again.
+		 *
+		 * @param pruneLanguages True to drop the other languages, defaults to false
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder pruneLanguages(boolean pruneLanguages)
+		{
+			construct.pruneLanguages = pruneLanguages;
+			return this;
+		}
+
+		/**
+		 * Sets how many built pages are kept in memory, so navigating back to a page does not load and parse it again.
+		 * Cached pages are keyed by their uri and the vector of the current {@link App}.
+		 *
+		 * @param pageCacheSize The maximum number of pages to cache, 0 to disable caching. Defaults to 0
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder pageCacheSize(int pageCacheSize)
+		{
+			construct.pageCacheSize = pageCacheSize;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of short strings, the model class names and link destinations, that are
+		 * shared between parsed models instead of each model keeping its own copy. See
+		 * {@link com.cube.storm.ui.lib.parser.ViewBuilder#getStringPool()} for the memory it saved.
+		 *
+		 * @param stringPoolSize The maximum number of pooled strings, defaults to 0 which disables pooling
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder stringPoolSize(int stringPoolSize)
+		{
+			construct.stringPoolSize = stringPoolSize;
+			return this;
+		}
+
+		/**
+		 * Sets the executor used for work moved off the main thread, such as loading and parsing pages
+		 *
+		 * @param executor The new executor. Defaults to a single background thread
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder backgroundExecutor(@NonNull Executor executor)
+		{
+			construct.backgroundExecutor = executor;
+			return this;
+		}
+
 		/**
 		 * Sets the default {@link com.cube.storm.util.lib.processor.Processor} for the module
 		 *
@@ -485,6 +661,12 @@ public class UiSettings
 		public Builder registerViewResolver(String viewName, ViewResolver resolver)
 		{
 			construct.viewResolvers.put(viewName, resolver);
+
+			if (resolver != null && resolver.resolveViewHolderFactory() != null)
+			{
+				registerViewHolderFactory(resolver.resolveViewHolderFactory());
+			}
+
 			return this;
 		}
 
@@ -498,7 +680,25 @@ public class UiSettings
 		 */
 		public Builder registerViewResolver(Map<String, ViewResolver> resolvers)
 		{
-			construct.viewResolvers.putAll(resolvers);
+			for (Map.Entry<String, ViewResolver> resolver : resolvers.entrySet())
+			{
+				registerViewResolver(resolver.getKey(), resolver.getValue());
+			}
+
+			return this;
+		}
+
+		/**
+		 * Registers the instance to use for a holder factory class, so it is never created through reflection. Factories
+		 * are shared by every list, so they should not hold any state.
+		 *
+		 * @param factory The holder factory instance
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder registerViewHolderFactory(@NonNull ViewHolderFactory factory)
+		{
+			construct.viewHolderFactories.put(factory.getClass(), factory);
 			return this;
 		}
 
@@ -583,6 +783,79 @@ public class UiSettings
 			return this;
 		}
 
+		/**
+		 * Sets the maximum number of recycled holders kept for a holder factory in the pool shared by all storm lists
+		 *
+		 * @param factoryClass The holder factory class
+		 * @param maxSize The maximum number of recycled holders to keep
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder recycledViewPoolSize(@NonNull Class<? extends ViewHolderFactory> factoryClass, int maxSize)
+		{
+			construct.recycledViewPoolSizes.put(factoryClass, maxSize);
+			return this;
+		}
+
+		/**
+		 * Creates holders for a holder factory ahead of time in the pool shared by all storm lists, so the first pages
+		 * opened reuse them instead of inflating new views. The holders are created once the main thread is idle after
+		 * the first list is shown.
+		 *
+		 * @param factoryClass The holder factory class
+		 * @param count The number of holders to create
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder prewarmViewHolder(@NonNull Class<? extends ViewHolderFactory> factoryClass, int count)
+		{
+			construct.prewarmViewHolders.put(factoryClass, count);
+			return this;
+		}
+
+		/**
+		 * Sets how many holders of each view type in a page are inflated on a background thread once the page has loaded,
+		 * so they don't have to be inflated on the main thread while the list is scrolling. Holders whose views need to be
+		 * created on the main thread are skipped.
+		 *
+		 * @param preInflateCount The maximum number of holders to inflate per view type, 0 to disable. Defaults to 0
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder preInflateCount(int preInflateCount)
+		{
+			construct.preInflateCount = preInflateCount;
+			return this;
+		}
+
+		/**
+		 * Sets how many rows ahead of the visible rows have their images loaded while a list is scrolling, so the images
+		 * are already cached when the rows are shown
+		 *
+		 * @param imagePrefetchCount The maximum number of rows to prefetch, 0 to disable. Defaults to 0
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder imagePrefetchCount(int imagePrefetchCount)
+		{
+			construct.imagePrefetchCount = imagePrefetchCount;
+			return this;
+		}
+
+		/**
+		 * Pre-warms the holders used by most list pages, standard list items, dividers and list headers and footers
+		 *
+		 * @return The {@link com.cube.storm.UiSettings.Builder} instance for chaining
+		 */
+		public Builder prewarmCommonViewHolders()
+		{
+			prewarmViewHolder(StandardListItemViewHolder.Factory.class, 8);
+			prewarmViewHolder(DividerViewHolder.Factory.class, 8);
+			prewarmViewHolder(ListHeaderViewHolder.Factory.class, 2);
+			prewarmViewHolder(ListFooterViewHolder.Factory.class, 2);
+			return this;
+		}
+
 		/**
 		 * Sets the YouTube API key to use in order to play youtube videos with the supported standalone player
 		 *
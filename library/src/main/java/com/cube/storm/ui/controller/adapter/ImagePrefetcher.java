@@ -0,0 +1,285 @@
+package com.cube.storm.ui.controller.adapter;
+
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.cube.storm.UiSettings;
+import com.cube.storm.ui.lib.helper.ImageHelper;
+import com.cube.storm.ui.model.Model;
+import com.cube.storm.ui.model.grid.ImageGridItem;
+import com.cube.storm.ui.model.grid.StandardGridItem;
+import com.cube.storm.ui.model.list.HeaderListItem;
+import com.cube.storm.ui.model.list.ImageListItem;
+import com.cube.storm.ui.model.list.LogoListItem;
+import com.cube.storm.ui.model.list.SpotlightListItem;
+import com.cube.storm.ui.model.list.StandardListItem;
+import com.cube.storm.ui.model.list.VideoListItem;
+import com.cube.storm.ui.model.property.ImageProperty;
+import com.cube.storm.ui.model.property.SpotlightImageProperty;
+import com.nostra13.universalimageloader.core.DisplayImageOptions;
+import com.nostra13.universalimageloader.core.assist.ImageSize;
+import com.nostra13.universalimageloader.core.imageaware.ImageViewAware;
+
+import java.util.List;
+
+/**
+ * Scroll listener that starts loading the images of the rows about to scroll into view of a list using a
+ * {@link StormListAdapter}, so they are in the image loader's caches by the time the rows are bound.
+ * <p/>
+ * The rows ahead of the last visible row in the direction of the scroll are prefetched, up to the budget. Slow scrolls
+ * prefetch half of the budget. The image view of each view type is measured once, and its size is used both to select
+ * the variant with {@link ImageHelper} and as the target size, the same as {@link ImageHelper#displayImage} does, so the
+ * prefetched image has the same memory cache key as the one the row will display. Prefetched images are kept in the
+ * memory and disk caches.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class ImagePrefetcher extends RecyclerView.OnScrollListener
+{
+	protected final StormListAdapter adapter;
+	protected final int budget;
+
+	/**
+	 * Options used to prefetch. The default options of the image loader do not cache, which would download and decode
+	 * the image only to throw it away.
+	 */
+	private static final DisplayImageOptions prefetchOptions = new DisplayImageOptions.Builder()
+		.cacheInMemory(true)
+		.cacheOnDisk(true)
+		.build();
+
+	/**
+	 * Size of the image view of the rows of each view type, measured once per view type
+	 */
+	private final SparseArray<ImageSize> imageSizes = new SparseArray<ImageSize>();
+
+	/**
+	 * View types whose rows have been measured, including those without an image view
+	 */
+	private final SparseBooleanArray measuredTypes = new SparseBooleanArray();
+
+	/**
+	 * The furthest positions prefetched in each direction, so rows are only prefetched once per pass
+	 */
+	private int prefetchedForward = -1;
+	private int prefetchedBackward = Integer.MAX_VALUE;
+
+	/**
+	 * @param adapter The adapter of the list
+	 * @param budget The maximum number of rows to prefetch ahead of the visible rows
+	 */
+	public ImagePrefetcher(@NonNull StormListAdapter adapter, int budget)
+	{
+		this.adapter = adapter;
+		this.budget = budget;
+	}
+
+	@Override public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy)
+	{
+		int delta = Math.abs(dy) >= Math.abs(dx) ? dy : dx;
+
+		if (delta == 0 || recyclerView.getAdapter() != adapter || recyclerView.getChildCount() == 0)
+		{
+			return;
+		}
+
+		int first = Integer.MAX_VALUE;
+		int last = -1;
+		int rowSize = 0;
+
+		for (int index = 0, count = recyclerView.getChildCount(); index < count; index++)
+		{
+			View child = recyclerView.getChildAt(index);
+			int position = recyclerView.getChildAdapterPosition(child);
+
+			if (position == RecyclerView.NO_POSITION)
+			{
+				continue;
+			}
+
+			first = Math.min(first, position);
+			last = Math.max(last, position);
+			rowSize = Math.max(rowSize, delta == dy ? child.getHeight() : child.getWidth());
+			int viewType = adapter.getItemViewType(position);
+
+			if (!measuredTypes.get(viewType))
+			{
+				recordImageSize(viewType, child);
+			}
+		}
+
+		if (last == -1)
+		{
+			return;
+		}
+
+		// Scrolling more than a row per frame is a fling, look further ahead
+		int ahead = rowSize > 0 && Math.abs(delta) < rowSize ? Math.max(budget / 2, 1) : budget;
+
+		if (delta > 0)
+		{
+			int from = Math.max(last + 1, prefetchedForward + 1);
+			int to = Math.min(last + ahead, adapter.getItemCount() - 1);
+
+			for (int position = from; position <= to; position++)
+			{
+				prefetch(position);
+			}
+
+			prefetchedForward = Math.max(prefetchedForward, to);
+			prefetchedBackward = Integer.MAX_VALUE;
+		}
+		else
+		{
+			int from = Math.min(first - 1, prefetchedBackward - 1);
+			int to = Math.max(first - ahead, 0);
+
+			for (int position = from; position >= to; position--)
+			{
+				prefetch(position);
+			}
+
+			prefetchedBackward = Math.min(prefetchedBackward, to);
+			prefetchedForward = -1;
+		}
+	}
+
+	/**
+	 * Starts loading the image of the row at a position
+	 *
+	 * @param position The position of the row in the adapter
+	 */
+	protected void prefetch(int position)
+	{
+		List<? extends ImageProperty> images = getImages(adapter.getItem(position));
+
+		if (images == null || images.isEmpty())
+		{
+			return;
+		}
+
+		// Without a size the image would be cached under a different key to the one the row displays
+		ImageSize targetSize = imageSizes.get(adapter.getItemViewType(position));
+
+		if (targetSize == null)
+		{
+			return;
+		}
+
+		ImageProperty image = ImageHelper.getImageProperty(images, targetSize.getWidth(), targetSize.getHeight());
+
+		if (image != null && image.getSrc() != null && image.getSrc().getDestination() != null)
+		{
+			UiSettings.getInstance().getImageLoader().loadImage(image.getSrc().getDestination(), targetSize, prefetchOptions, null);
+		}
+	}
+
+	/**
+	 * Records the size of the first image view in a row, measured the same way as {@link ImageHelper#displayImage}. The
+	 * view type is measured again later if its image view has not been laid out yet.
+	 *
+	 * @param viewType The view type of the row
+	 * @param row The view of the row
+	 */
+	private void recordImageSize(int viewType, @NonNull View row)
+	{
+		ImageView imageView = findImageView(row);
+
+		if (imageView == null)
+		{
+			measuredTypes.put(viewType, true);
+			return;
+		}
+
+		ImageViewAware aware = new ImageViewAware(imageView, true);
+
+		if (aware.getWidth() > 0 && aware.getHeight() > 0)
+		{
+			imageSizes.put(viewType, new ImageSize(aware.getWidth(), aware.getHeight()));
+			measuredTypes.put(viewType, true);
+		}
+	}
+
+	/**
+	 * @return The first image view in a view hierarchy, or null if there is none
+	 */
+	@Nullable
+	private static ImageView findImageView(@NonNull View view)
+	{
+		if (view instanceof ImageView)
+		{
+			return (ImageView)view;
+		}
+
+		if (view instanceof ViewGroup)
+		{
+			ViewGroup group = (ViewGroup)view;
+
+			for (int index = 0, count = group.getChildCount(); index < count; index++)
+			{
+				ImageView imageView = findImageView(group.getChildAt(index));
+
+				if (imageView != null)
+				{
+					return imageView;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the images shown by a model. Override this to prefetch the images of custom models.
+	 *
+	 * @param model The model of the row
+	 *
+	 * @return The image variants, or null if the model has no image
+	 */
+	@Nullable
+	protected List<? extends ImageProperty> getImages(@NonNull Model model)
+	{
+		if (model instanceof ImageListItem)
+		{
+			return ((ImageListItem)model).getImage();
+		}
+		else if (model instanceof StandardListItem)
+		{
+			return ((StandardListItem)model).getImage();
+		}
+		else if (model instanceof SpotlightListItem)
+		{
+			List<SpotlightImageProperty> spotlights = ((SpotlightListItem)model).getSpotlights();
+			return spotlights == null || spotlights.isEmpty() ? null : spotlights.get(0).getImage();
+		}
+		else if (model instanceof ImageGridItem)
+		{
+			return ((ImageGridItem)model).getImage();
+		}
+		else if (model instanceof StandardGridItem)
+		{
+			return ((StandardGridItem)model).getImage();
+		}
+		else if (model instanceof HeaderListItem)
+		{
+			return ((HeaderListItem)model).getImage();
+		}
+		else if (model instanceof LogoListItem)
+		{
+			return ((LogoListItem)model).getImage();
+		}
+		else if (model instanceof VideoListItem)
+		{
+			return ((VideoListItem)model).getImage();
+		}
+
+		return null;
+	}
+}
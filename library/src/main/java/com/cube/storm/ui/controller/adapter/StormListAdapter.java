@@ -1,12 +1,20 @@
 package com.cube.storm.ui.controller.adapter;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Parcelable;
+import android.util.LongSparseArray;
+import android.util.SparseIntArray;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import android.view.ViewGroup;
 
 import com.cube.storm.UiSettings;
+import com.cube.storm.ui.lib.helper.ViewTypeHelper;
 import com.cube.storm.ui.lib.resolver.ViewResolver;
+import com.cube.storm.ui.lib.spec.BulkDividerSpec;
 import com.cube.storm.ui.lib.spec.DividerSpec;
 import com.cube.storm.ui.model.Model;
 import com.cube.storm.ui.model.grid.GridItem;
@@ -20,8 +28,10 @@ import com.cube.storm.ui.view.holder.ViewHolderFactory;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * The base adapter used for displaying Storm views in a list. Using an adapter to do such a task has
@@ -60,48 +70,91 @@ public class StormListAdapter extends RecyclerView.Adapter<ViewHolder<?>>
 	}
 
 	/**
-	 * The list of models of the views we are rendering in the list. This is a 1 dimensional representation
-	 * of a multi-dimensional 'sub listed' array set which is outlined by the json. When setting the items
-	 * in this list, the models have to be traversed in order to build the 1 dimensional list for the
-	 * adapter to work correctly.
+	 * The list of models of the views we are rendering in the list, and their view types. This is a 1 dimensional
+	 * representation of a multi-dimensional 'sub listed' array set which is outlined by the json. When setting the items
+	 * in this list, the models have to be traversed in order to build the 1 dimensional list for the adapter to work correctly.
 	 */
-	private ArrayList<Model> items = new ArrayList<>();
+	private ItemList items = new ItemList(0);
 
 	/**
-	 * The different unique item types. This is used to tell the adapter how many unique views we're
-	 * going to be rendering so it knows what and when to recycle. The list is just for index based
-	 * convenience, the object type in the list is a reference to the view holder class we will use
-	 * to render said view.
+	 * Incremented every time the items are changed, so a diff from {@link #updateItems(Collection)} that was calculated
+	 * against older items is dropped
 	 */
-	private ArrayList<Class<? extends ViewHolderFactory>> itemTypes = new ArrayList<>();
+	private int generation = 0;
+
+	private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+	/**
+	 * Map of item key to stable item id for the current items, see {@link #assignIds(ItemList)}. Keys that are still present
+	 * keep their id when the items are rebuilt, and keys that are no longer present are dropped.
+	 */
+	private final Map<String, Long> stableIds = new HashMap<>();
+
+	/**
+	 * The next stable id to give out. Ids are never reused, so an id dropped from {@link #stableIds} can not be confused
+	 * with a new item.
+	 */
+	private long nextStableId = 0;
 
 	/**
 	 * Divider spec to use when laying out the children
 	 */
 	private DividerSpec dividerSpec;
 
+	/**
+	 * View state of nested lists in the rows, such as the scroll position of a collection, keyed by the stable id of the row
+	 */
+	private final LongSparseArray<Parcelable> nestedStates = new LongSparseArray<>();
+
+	/**
+	 * Holders being created ahead of time by {@link #preInflate(ViewGroup)}, or null
+	 */
+	private ViewHolderPreInflater preInflater;
+
 	public StormListAdapter()
 	{
 		dividerSpec = UiSettings.getInstance().getDividerSpec();
+		setHasStableIds(true);
 	}
 
 	public StormListAdapter(Collection<? extends Model> items)
 	{
 		dividerSpec = UiSettings.getInstance().getDividerSpec();
+		setHasStableIds(true);
 		setItems(items);
 	}
 
 	public AdapterState saveState()
 	{
-		return new AdapterState(items, itemTypes);
+		ArrayList<Class<? extends ViewHolderFactory>> itemTypes = new ArrayList<>();
+
+		for (int index = 0, count = items.size(); index < count; index++)
+		{
+			Class<? extends ViewHolderFactory> factoryClass = ViewTypeHelper.getFactoryClass(items.viewTypes[index]);
+
+			if (!itemTypes.contains(factoryClass))
+			{
+				itemTypes.add(factoryClass);
+			}
+		}
+
+		return new AdapterState(items.models, itemTypes);
 	}
 
 	public void restoreState(@Nullable AdapterState state)
 	{
 		if (state != null)
 		{
-			this.items = new ArrayList<>(state.items);
-			this.itemTypes = new ArrayList<>(state.itemsTypes);
+			ItemList restored = new ItemList(state.items.size());
+
+			for (Model item : state.items)
+			{
+				addItem(restored, restored.size(), item);
+			}
+
+			assignIds(restored);
+			generation++;
+			this.items = restored;
 
 			state = null;
 			notifyDataSetChanged();
@@ -115,7 +168,7 @@ public class StormListAdapter extends RecyclerView.Adapter<ViewHolder<?>>
 	 */
 	public void setDividerSpec(@Nullable DividerSpec spec)
 	{
-		this.dividerSpec = dividerSpec;
+		this.dividerSpec = spec;
 	}
 
 	/**
@@ -125,41 +178,151 @@ public class StormListAdapter extends RecyclerView.Adapter<ViewHolder<?>>
 	 */
 	public void setItems(@Nullable Collection<? extends Model> items)
 	{
-		if (items != null)
+		generation++;
+		this.items = buildItems(items);
+	}
+
+	/**
+	 * Replaces the items in the collection, notifying the adapter of only the items that were inserted, removed, moved or
+	 * changed so the list keeps its scroll position. Use this instead of {@link #setItems(Collection)} followed by
+	 * {@link #notifyDataSetChanged()} when updating a list that is already being shown.
+	 * <p/>
+	 * The new items are built and compared with the current items on {@link UiSettings#getBackgroundExecutor()}, and the
+	 * adapter is updated on the main thread. Items are the same item if they have the same stable id, see {@link #getItemId(int)},
+	 * and have changed if they are no longer equal. The update is dropped if the items are changed again before it completes.
+	 *
+	 * @param items The new items to set. Can be null to clear the list.
+	 */
+	public void updateItems(@Nullable Collection<? extends Model> items)
+	{
+		final int updateGeneration = ++generation;
+		final ItemList oldItems = new ItemList(this.items);
+		final ArrayList<Model> newModels = items == null ? null : new ArrayList<Model>(items);
+
+		UiSettings.getInstance().getBackgroundExecutor().execute(new Runnable()
+		{
+			@Override public void run()
+			{
+				final ItemList newItems = buildItems(newModels);
+				final DiffUtil.DiffResult result = DiffUtil.calculateDiff(new ItemDiffCallback(oldItems, newItems));
+
+				mainHandler.post(new Runnable()
+				{
+					@Override public void run()
+					{
+						if (updateGeneration == generation)
+						{
+							StormListAdapter.this.items = newItems;
+							result.dispatchUpdatesTo(StormListAdapter.this);
+						}
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Builds the flattened list of items, with dividers, for a collection of models
+	 *
+	 * @param items The models to build from. Can be null for an empty list.
+	 *
+	 * @return The new item list
+	 */
+	@NonNull
+	private ItemList buildItems(@Nullable Collection<? extends Model> items)
+	{
+		if (items == null)
 		{
-			items.removeAll(Collections.singleton(null));
+			return new ItemList(0);
+		}
 
-			this.items = new ArrayList<>(items.size());
-			this.itemTypes = new ArrayList<>(items.size() / 2);
+		ItemList list = new ItemList(items.size());
 
-			for (Model item : items)
+		// Null models are skipped rather than removed, the collection belongs to the caller
+		for (Model item : items)
+		{
+			if (item != null)
 			{
-				addItem(item);
+				addItem(list, list.size(), item);
 			}
+		}
+
+		// Add dividers in a single pass, appending each item and then its divider to a new list
+		if (dividerSpec != null)
+		{
+			ListItem[] dividers = dividerSpec instanceof BulkDividerSpec ? ((BulkDividerSpec)dividerSpec).getDividers(list.models) : null;
+			int count = list.size();
+			ItemList divided = new ItemList(count + (count >> 1));
 
-			// Add dividers
-			if (dividerSpec != null)
+			for (int index = 0; index < count; index++)
 			{
-				ArrayList<Model> tmp = new ArrayList<>(this.items);
+				divided.add(divided.size(), list.models.get(index), list.viewTypes[index]);
 
-				int count = tmp.size();
-				int offset = 0;
-				for (int index = 0; index < count; index++)
-				{
-					ListItem divider = dividerSpec.shouldAddDivider(index, tmp);
+				ListItem divider = dividers != null ? dividers[index] : dividerSpec.shouldAddDivider(index, list.models);
 
-					if (divider != null)
-					{
-						addItem(index + (++offset), divider);
-					}
+				if (divider != null)
+				{
+					addItem(divided, divided.size(), divider);
 				}
 			}
+
+			list = divided;
 		}
-		else
+
+		assignIds(list);
+		return list;
+	}
+
+	/**
+	 * Assigns a stable id to every item in the list. Items are keyed by their view type and {@link Model#getId()}. Items
+	 * without an id, such as list headers, footers and dividers, are keyed by their view type, the key of the closest item
+	 * before them with an id, and how many items of that type come between the two. Repeated keys are numbered, so every
+	 * item in the list gets a different id.
+	 *
+	 * @param list The list to assign ids to
+	 */
+	private void assignIds(@NonNull ItemList list)
+	{
+		int count = list.size();
+		long[] ids = new long[count];
+		Map<String, Integer> occurrences = new HashMap<>();
+		Map<String, Long> current = new HashMap<>(count);
+		String anchor = "";
+
+		synchronized (stableIds)
 		{
-			this.items = new ArrayList<>(0);
-			this.itemTypes = new ArrayList<>(0);
+			for (int index = 0; index < count; index++)
+			{
+				String modelId = list.models.get(index).getId();
+				String key = modelId != null ? list.viewTypes[index] + "#" + modelId : list.viewTypes[index] + "@" + anchor;
+
+				Integer occurrence = occurrences.get(key);
+				occurrence = occurrence == null ? 0 : occurrence + 1;
+				occurrences.put(key, occurrence);
+
+				if (modelId != null)
+				{
+					anchor = key + "#" + occurrence;
+				}
+
+				key += "#" + occurrence;
+
+				Long id = stableIds.get(key);
+
+				if (id == null)
+				{
+					id = nextStableId++;
+				}
+
+				current.put(key, id);
+				ids[index] = id;
+			}
+
+			stableIds.clear();
+			stableIds.putAll(current);
 		}
+
+		list.ids = ids;
 	}
 
 	/**
@@ -180,59 +343,133 @@ public class StormListAdapter extends RecyclerView.Adapter<ViewHolder<?>>
 	 */
 	public void addItem(int index, @NonNull Model item)
 	{
+		generation++;
+
+		if (addItem(this.items, index, item) > 0)
+		{
+			assignIds(this.items);
+		}
+	}
+
+	/**
+	 * Adds an item to an item list, expanding {@link List} models into their header, children and footer
+	 *
+	 * @return The number of items that were added
+	 */
+	private int addItem(@NonNull ItemList list, int index, @NonNull Model item)
+	{
+		int added = 0;
+
 		if (item instanceof List)
 		{
 			if (((List)item).getChildren() != null)
 			{
-				((List)item).getChildren().removeAll(Collections.singleton(null));
+				// Copy the non null children so the model, which may be shared with other threads, is not changed
+				ArrayList<Model> children = new ArrayList<Model>(((List)item).getChildren().size());
 
-				if (((List)item).getChildren().size() > 0)
+				for (Model child : ((List)item).getChildren())
+				{
+					if (child != null)
+					{
+						children.add(child);
+					}
+				}
+
+				if (children.size() > 0)
 				{
 					// Add list header
 					ListHeader header = new ListHeader();
 					header.setHeader(((List)item).getHeader());
-					addItem(header);
+					added += addItem(list, index + added, header);
 
 					// Add children
-					for (Model subItem : ((List)item).getChildren())
+					for (Model subItem : children)
 					{
-						if (subItem != null)
-						{
-							addItem(subItem);
-						}
+						added += addItem(list, index + added, subItem);
 					}
 
 					// Add list footer
 					ListFooter footer = new ListFooter();
 					footer.setFooter(((List)item).getFooter());
-					addItem(footer);
+					added += addItem(list, index + added, footer);
 				}
 			}
 		}
 		else
 		{
-			Class<? extends ViewHolderFactory> holderClass = UiSettings.getInstance().getViewResolvers().get(item.getClassName()).resolveViewHolder();
+			int viewType = ViewTypeHelper.getViewType(item.getClassName());
 
-			if (holderClass != null)
+			if (viewType != ViewTypeHelper.INVALID_TYPE)
 			{
-				this.items.add(index, item);
+				list.add(index, item, viewType);
+				added++;
 			}
+		}
+
+		return added;
+	}
+
+	/**
+	 * Starts creating holders for the current items on a background thread, up to {@link UiSettings#getPreInflateCount()}
+	 * of each view type, which are then used by {@link #onCreateViewHolder(ViewGroup, int)}. Does nothing if pre-inflation
+	 * is disabled.
+	 *
+	 * @param parent The view the holders will be attached to, normally the recycler view
+	 */
+	public void preInflate(@NonNull ViewGroup parent)
+	{
+		cancelPreInflate();
 
-			if (!this.itemTypes.contains(holderClass))
+		int max = UiSettings.getInstance().getPreInflateCount();
+
+		if (max <= 0 || items.size() == 0)
+		{
+			return;
+		}
+
+		SparseIntArray counts = new SparseIntArray();
+		int[] viewTypes = new int[items.size()];
+		int count = 0;
+
+		for (int index = 0; index < items.size(); index++)
+		{
+			int viewType = items.viewTypes[index];
+			int inflated = counts.get(viewType);
+
+			if (inflated < max)
 			{
-				this.itemTypes.add(holderClass);
+				counts.put(viewType, inflated + 1);
+				viewTypes[count++] = viewType;
 			}
 		}
+
+		preInflater = new ViewHolderPreInflater();
+		preInflater.preInflate(parent, Arrays.copyOf(viewTypes, count));
+	}
+
+	/**
+	 * Stops any pre-inflation started by {@link #preInflate(ViewGroup)} and discards the unused holders
+	 */
+	public void cancelPreInflate()
+	{
+		if (preInflater != null)
+		{
+			preInflater.cancel();
+			preInflater = null;
+		}
 	}
 
 	public Model getItem(int position)
 	{
-		return items.get(position);
+		return items.models.get(position);
 	}
 
+	/**
+	 * @return The stable id of the item, assigned when the items are set
+	 */
 	@Override public long getItemId(int position)
 	{
-		return getItem(position).hashCode();
+		return items.ids[position];
 	}
 
 	@Override public int getItemCount()
@@ -242,11 +479,16 @@ public class StormListAdapter extends RecyclerView.Adapter<ViewHolder<?>>
 
 	@Override public ViewHolder<?> onCreateViewHolder(ViewGroup viewGroup, int viewType)
 	{
-		ViewHolder<?> holder;
+		ViewHolder<?> holder = preInflater == null ? null : preInflater.obtain(viewType);
+
+		if (holder != null)
+		{
+			return holder;
+		}
 
 		try
 		{
-			ViewHolderFactory holderFactory = itemTypes.get(viewType).getConstructor().newInstance();
+			ViewHolderFactory holderFactory = UiSettings.getInstance().getViewHolderFactory(ViewTypeHelper.getFactoryClass(viewType));
 			holder = holderFactory.createViewHolder(viewGroup);
 		}
 		catch (Exception e)
@@ -278,9 +520,121 @@ public class StormListAdapter extends RecyclerView.Adapter<ViewHolder<?>>
 		}
 	}
 
+	@Override public void onViewRecycled(@NonNull ViewHolder<?> holder)
+	{
+		holder.onRecycled();
+	}
+
+	/**
+	 * Saves the view state of a nested list in a row, so it can be restored when the row is bound again
+	 *
+	 * @param itemId The stable id of the row, see {@link #getItemId(int)}
+	 * @param state The state to save, or null to clear it
+	 */
+	public void setNestedState(long itemId, @Nullable Parcelable state)
+	{
+		if (state == null)
+		{
+			nestedStates.remove(itemId);
+		}
+		else
+		{
+			nestedStates.put(itemId, state);
+		}
+	}
+
+	/**
+	 * @param itemId The stable id of the row, see {@link #getItemId(int)}
+	 *
+	 * @return The view state saved with {@link #setNestedState(long, Parcelable)}, or null
+	 */
+	@Nullable
+	public Parcelable getNestedState(long itemId)
+	{
+		return nestedStates.get(itemId);
+	}
+
 	@Override public int getItemViewType(int position)
 	{
-		Model view = items.get(position);
-		return itemTypes.indexOf(UiSettings.getInstance().getViewResolvers().get(view.getClassName()).resolveViewHolder());
+		return items.viewTypes[position];
+	}
+
+	/**
+	 * The flattened models of the list, their view types from {@link ViewTypeHelper} and their stable ids. View types are
+	 * shared by all adapters, so they are stable across pages and holders can be recycled between lists. Only the first
+	 * {@code size()} view types are used.
+	 */
+	private static final class ItemList
+	{
+		private final ArrayList<Model> models;
+		private int[] viewTypes;
+		private long[] ids = new long[0];
+
+		public ItemList(int capacity)
+		{
+			models = new ArrayList<>(capacity);
+			viewTypes = new int[capacity];
+		}
+
+		public ItemList(@NonNull ItemList source)
+		{
+			models = new ArrayList<>(source.models);
+			viewTypes = Arrays.copyOf(source.viewTypes, source.models.size());
+			ids = source.ids;
+		}
+
+		public int size()
+		{
+			return models.size();
+		}
+
+		public void add(int index, @NonNull Model model, int viewType)
+		{
+			int count = models.size();
+
+			if (viewTypes.length <= count)
+			{
+				viewTypes = Arrays.copyOf(viewTypes, Math.max(count + 1, viewTypes.length * 2));
+			}
+
+			System.arraycopy(viewTypes, index, viewTypes, index + 1, count - index);
+			viewTypes[index] = viewType;
+			models.add(index, model);
+		}
+	}
+
+	/**
+	 * Compares two item lists for {@link #updateItems(Collection)}
+	 */
+	private static final class ItemDiffCallback extends DiffUtil.Callback
+	{
+		private final ItemList oldItems;
+		private final ItemList newItems;
+
+		public ItemDiffCallback(@NonNull ItemList oldItems, @NonNull ItemList newItems)
+		{
+			this.oldItems = oldItems;
+			this.newItems = newItems;
+		}
+
+		@Override public int getOldListSize()
+		{
+			return oldItems.size();
+		}
+
+		@Override public int getNewListSize()
+		{
+			return newItems.size();
+		}
+
+		@Override public boolean areItemsTheSame(int oldItemPosition, int newItemPosition)
+		{
+			return oldItems.ids[oldItemPosition] == newItems.ids[newItemPosition];
+		}
+
+		@Override public boolean areContentsTheSame(int oldItemPosition, int newItemPosition)
+		{
+			return oldItems.models.get(oldItemPosition).equals(newItems.models.get(newItemPosition));
+		}
 	}
 }
@@ -0,0 +1,202 @@
+package com.cube.storm.ui.controller.adapter;
+
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.cube.storm.UiSettings;
+import com.cube.storm.ui.lib.helper.ViewTypeHelper;
+import com.cube.storm.ui.view.holder.ViewHolder;
+import com.cube.storm.ui.view.holder.ViewHolderFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates view holders on a background thread ahead of when the list needs them, in the same way as
+ * {@code AsyncLayoutInflater}, so holders with heavy layouts are not inflated on the main thread while the list is
+ * scrolling. {@link StormListAdapter} takes holders from here before creating new ones.
+ * <p/>
+ * The inflater of the activity and its factories are not thread safe, so like {@code AsyncLayoutInflater} the holders are
+ * inflated with a clone of it, passed to {@link ViewHolderFactory#createViewHolder(ViewGroup, LayoutInflater)}. Factories
+ * that only override {@link ViewHolderFactory#createViewHolder(ViewGroup)} are skipped.
+ * <p/>
+ * Views which need a {@link android.os.Looper} when they are created can't be inflated off the main thread, holders that
+ * fail to inflate are skipped and created on the main thread as usual.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class ViewHolderPreInflater
+{
+	/**
+	 * Single thread used for inflation, separate from {@link UiSettings#getBackgroundExecutor()} so inflating does not hold
+	 * up loading pages
+	 */
+	private static final Executor inflateExecutor = Executors.newSingleThreadExecutor();
+
+	/**
+	 * Whether each factory class creates its holders with the inflater it is given, see {@link #usesInflater(Class)}
+	 */
+	private static final Map<Class<?>, Boolean> inflaterFactories = new HashMap<>();
+
+	private final SparseArray<ArrayDeque<ViewHolder<?>>> holders = new SparseArray<>();
+	private volatile boolean cancelled = false;
+
+	/**
+	 * Inflates a holder for each of the view types on a background thread
+	 *
+	 * @param parent The view the holders will be attached to, used for their layout params
+	 * @param viewTypes The view types to inflate, from {@link ViewTypeHelper}. A type is inflated once for every time it appears.
+	 */
+	public void preInflate(@NonNull final ViewGroup parent, @NonNull final int[] viewTypes)
+	{
+		final LayoutInflater inflater = LayoutInflater.from(parent.getContext()).cloneInContext(parent.getContext());
+		final ViewHolderFactory[] factories = new ViewHolderFactory[viewTypes.length];
+
+		// Factories are resolved here on the main thread, so the inflate thread only inflates
+		for (int index = 0; index < viewTypes.length; index++)
+		{
+			ViewHolderFactory factory = UiSettings.getInstance().getViewHolderFactory(ViewTypeHelper.getFactoryClass(viewTypes[index]));
+			factories[index] = factory != null && usesInflater(factory.getClass()) ? factory : null;
+		}
+
+		inflateExecutor.execute(new Runnable()
+		{
+			@Override public void run()
+			{
+				for (int index = 0; index < viewTypes.length; index++)
+				{
+					if (cancelled)
+					{
+						return;
+					}
+
+					if (factories[index] == null)
+					{
+						continue;
+					}
+
+					int viewType = viewTypes[index];
+
+					try
+					{
+						ViewHolder<?> holder = factories[index].createViewHolder(parent, inflater);
+
+						if (holder == null)
+						{
+							continue;
+						}
+
+						synchronized (holders)
+						{
+							if (cancelled)
+							{
+								return;
+							}
+
+							ArrayDeque<ViewHolder<?>> queue = holders.get(viewType);
+
+							if (queue == null)
+							{
+								queue = new ArrayDeque<>();
+								holders.put(viewType, queue);
+							}
+
+							queue.add(holder);
+						}
+					}
+					catch (Exception e)
+					{
+						e.printStackTrace();
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Checks whether a factory class creates its holders with the inflater passed to
+	 * {@link ViewHolderFactory#createViewHolder(ViewGroup, LayoutInflater)}. A subclass that only overrides
+	 * {@link ViewHolderFactory#createViewHolder(ViewGroup)}, for example to use a different layout, inflates with the
+	 * shared inflater and must not be used off the main thread.
+	 *
+	 * @param factoryClass The factory class
+	 *
+	 * @return True if the factory class can be used to pre-inflate holders
+	 */
+	private static boolean usesInflater(@NonNull Class<?> factoryClass)
+	{
+		Boolean uses = inflaterFactories.get(factoryClass);
+
+		if (uses == null)
+		{
+			uses = false;
+
+			for (Class<?> type = factoryClass; type != null && type != ViewHolderFactory.class; type = type.getSuperclass())
+			{
+				if (declares(type, ViewGroup.class, LayoutInflater.class))
+				{
+					uses = true;
+					break;
+				}
+				else if (declares(type, ViewGroup.class))
+				{
+					break;
+				}
+			}
+
+			inflaterFactories.put(factoryClass, uses);
+		}
+
+		return uses;
+	}
+
+	private static boolean declares(@NonNull Class<?> type, @NonNull Class<?>... parameterTypes)
+	{
+		try
+		{
+			type.getDeclaredMethod("createViewHolder", parameterTypes);
+			return true;
+		}
+		catch (NoSuchMethodException e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Takes a pre-inflated holder
+	 *
+	 * @param viewType The view type of the holder
+	 *
+	 * @return The holder, or null if there are none of the type ready
+	 */
+	@Nullable
+	public ViewHolder<?> obtain(int viewType)
+	{
+		synchronized (holders)
+		{
+			ArrayDeque<ViewHolder<?>> queue = holders.get(viewType);
+			return queue == null ? null : queue.poll();
+		}
+	}
+
+	/**
+	 * Stops inflating and discards any holders that have not been used
+	 */
+	public void cancel()
+	{
+		cancelled = true;
+
+		synchronized (holders)
+		{
+			holders.clear();
+		}
+	}
+}
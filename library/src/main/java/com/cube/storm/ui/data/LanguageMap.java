@@ -0,0 +1,204 @@
+package com.cube.storm.ui.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Array backed map of language codes to strings, used for the content of {@link com.cube.storm.ui.model.property.TextProperty}
+ * when only a few languages are kept. Lookups are a linear scan over the keys, which is faster than hashing for the one
+ * to three entries it is meant for and takes a fraction of the memory of a {@link java.util.HashMap}.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class LanguageMap extends AbstractMap<String, String> implements Serializable
+{
+	private String[] keys;
+	private String[] values;
+	private int size;
+
+	public LanguageMap()
+	{
+		this(1);
+	}
+
+	public LanguageMap(int capacity)
+	{
+		keys = new String[capacity];
+		values = new String[capacity];
+	}
+
+	/**
+	 * Creates a map with the entries of another map for the given languages only
+	 *
+	 * @param content The map to copy from
+	 * @param languages The language codes to keep
+	 *
+	 * @return The new map
+	 */
+	@NonNull
+	public static LanguageMap prune(@NonNull Map<String, String> content, @NonNull String[] languages)
+	{
+		LanguageMap map = new LanguageMap(languages.length);
+
+		for (String language : languages)
+		{
+			if (content.containsKey(language))
+			{
+				map.put(language, content.get(language));
+			}
+		}
+
+		map.trimToSize();
+		return map;
+	}
+
+	/**
+	 * Shrinks the backing arrays to the number of entries
+	 */
+	public void trimToSize()
+	{
+		if (keys.length != size)
+		{
+			keys = Arrays.copyOf(keys, size);
+			values = Arrays.copyOf(values, size);
+		}
+	}
+
+	private int indexOf(@Nullable Object key)
+	{
+		for (int index = 0; index < size; index++)
+		{
+			if (key == null ? keys[index] == null : key.equals(keys[index]))
+			{
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override public int size()
+	{
+		return size;
+	}
+
+	@Override public boolean containsKey(Object key)
+	{
+		return indexOf(key) >= 0;
+	}
+
+	@Override public String get(Object key)
+	{
+		int index = indexOf(key);
+		return index >= 0 ? values[index] : null;
+	}
+
+	@Override public String put(String key, String value)
+	{
+		int index = indexOf(key);
+
+		if (index >= 0)
+		{
+			String previous = values[index];
+			values[index] = value;
+			return previous;
+		}
+
+		if (size == keys.length)
+		{
+			keys = Arrays.copyOf(keys, Math.max(size * 2, 1));
+			values = Arrays.copyOf(values, Math.max(size * 2, 1));
+		}
+
+		keys[size] = key;
+		values[size] = value;
+		size++;
+
+		return null;
+	}
+
+	@Override public String remove(Object key)
+	{
+		int index = indexOf(key);
+		return index >= 0 ? removeAt(index) : null;
+	}
+
+	private String removeAt(int index)
+	{
+		String previous = values[index];
+
+		System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		keys[size] = null;
+		values[size] = null;
+
+		return previous;
+	}
+
+	@Override public void clear()
+	{
+		Arrays.fill(keys, 0, size, null);
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+	}
+
+	@NonNull
+	@Override public Set<Entry<String, String>> entrySet()
+	{
+		return new AbstractSet<Entry<String, String>>()
+		{
+			@Override public int size()
+			{
+				return size;
+			}
+
+			@Override public Iterator<Entry<String, String>> iterator()
+			{
+				return new Iterator<Entry<String, String>>()
+				{
+					private int next = 0;
+					private int last = -1;
+
+					@Override public boolean hasNext()
+					{
+						return next < size;
+					}
+
+					@Override public Entry<String, String> next()
+					{
+						if (next >= size)
+						{
+							throw new NoSuchElementException();
+						}
+
+						last = next++;
+						return new SimpleImmutableEntry<>(keys[last], values[last]);
+					}
+
+					@Override public void remove()
+					{
+						if (last < 0)
+						{
+							throw new IllegalStateException();
+						}
+
+						removeAt(last);
+						next = last;
+						last = -1;
+					}
+				};
+			}
+		};
+	}
+}
@@ -2,6 +2,7 @@ package com.cube.storm.ui.fragment;
 
 import android.net.Uri;
 import android.os.Bundle;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.recyclerview.widget.DefaultItemAnimator;
 import androidx.recyclerview.widget.LinearLayoutManager;
@@ -18,9 +19,11 @@ import com.cube.storm.UiSettings;
 import com.cube.storm.ui.R;
 import com.cube.storm.ui.activity.StormActivity;
 import com.cube.storm.ui.activity.StormInterface;
+import com.cube.storm.ui.controller.adapter.ImagePrefetcher;
 import com.cube.storm.ui.controller.adapter.StormListAdapter;
 import com.cube.storm.ui.lib.EventHook;
 import com.cube.storm.ui.lib.helper.RecycledViewPoolHelper;
+import com.cube.storm.ui.lib.parser.ViewBuilder;
 import com.cube.storm.ui.model.page.GridPage;
 import com.cube.storm.ui.model.page.ListPage;
 import com.cube.storm.ui.model.page.Page;
@@ -39,11 +42,16 @@ public class StormFragment extends Fragment implements StormInterface
 	@Getter protected StormListAdapter adapter;
 	@Getter protected Page page;
 
+	/**
+	 * Incremented for every call to {@link #loadPage(String)}, so only the result of the latest load is applied
+	 */
+	private int loadRequest = 0;
+
 	@Override public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState)
 	{
 		View v = inflater.inflate(getLayoutResource(), container, false);
 		recyclerView = (RecyclerView)v.findViewById(R.id.recyclerview);
-		recyclerView.setRecycledViewPool(RecycledViewPoolHelper.getInstance().getRecycledViewPool());
+		recyclerView.setRecycledViewPool(RecycledViewPoolHelper.getInstance(recyclerView.getContext()).getRecycledViewPool());
 		recyclerView.setItemAnimator(new DefaultItemAnimator());
 
 		return v;
@@ -62,6 +70,11 @@ public class StormFragment extends Fragment implements StormInterface
 			throw new RuntimeException("Could not instantiate class " + UiSettings.getInstance().getViewAdapter() + " for adapter");
 		}
 
+		if (UiSettings.getInstance().getImagePrefetchCount() > 0)
+		{
+			recyclerView.addOnScrollListener(new ImagePrefetcher(adapter, UiSettings.getInstance().getImagePrefetchCount()));
+		}
+
 		if (savedInstanceState != null)
 		{
 			if (savedInstanceState.containsKey("page"))
@@ -98,18 +111,33 @@ public class StormFragment extends Fragment implements StormInterface
 	{
 		if (page instanceof ListPage)
 		{
+			// Content update for a list that is already being shown, only rebind what changed and keep the scroll position
+			if (recyclerView.getAdapter() == adapter && !(recyclerView.getLayoutManager() instanceof StaggeredGridLayoutManager))
+			{
+				adapter.updateItems(page.getChildren());
+				return;
+			}
+
 			recyclerView.setLayoutManager(new LinearLayoutManager(getActivity()));
 			adapter.setItems(page.getChildren());
 		}
 		else if (page instanceof GridPage)
 		{
+			if (recyclerView.getAdapter() == adapter && recyclerView.getLayoutManager() instanceof StaggeredGridLayoutManager)
+			{
+				adapter.updateItems(((GridPage)page).getGrid().getChildren());
+				return;
+			}
+
 			StaggeredGridLayoutManager layoutManager = new StaggeredGridLayoutManager(2, StaggeredGridLayoutManager.VERTICAL);
 			layoutManager.setGapStrategy(StaggeredGridLayoutManager.GAP_HANDLING_NONE);
 			recyclerView.setLayoutManager(layoutManager);
 			adapter.setItems(((GridPage)page).getGrid().getChildren());
 		}
 
+		adapter.preInflate(recyclerView);
 		recyclerView.setAdapter(adapter);
+		RecycledViewPoolHelper.getInstance(recyclerView.getContext()).prewarm(recyclerView);
 	}
 
 	public void setTitle()
@@ -137,6 +165,13 @@ public class StormFragment extends Fragment implements StormInterface
 	{
 		super.onSaveInstanceState(outState);
 
+		// Pages parsed with pruned languages only hold the current language, so they are built again when restored in
+		// case the language has changed, for example when the activity is recreated after a language switch
+		if (UiSettings.getInstance().isPruneLanguages())
+		{
+			return;
+		}
+
 		if (adapter != null)
 		{
 			outState.putSerializable("adapter", adapter.saveState());
@@ -148,18 +183,60 @@ public class StormFragment extends Fragment implements StormInterface
 		}
 	}
 
+	/**
+	 * Loads the page on {@link UiSettings#getBackgroundExecutor()}, showing the placeholder until it has been built
+	 */
 	@Override public void loadPage(String pageUri)
 	{
-		page = UiSettings.getInstance().getViewBuilder().buildPage(Uri.parse(pageUri));
+		setLoading(true);
 
-		if (page != null)
+		final int request = ++loadRequest;
+
+		UiSettings.getInstance().getViewBuilder().buildPageAsync(Uri.parse(pageUri), new ViewBuilder.OnBuildListener<Page>()
 		{
-			setAdapter();
-			setTitle();
-		}
-		else
+			@Override public void onBuilt(@Nullable Page result)
+			{
+				// The fragment may have been removed while the page was loading, or a newer load started
+				if (request != loadRequest || !isAdded() || getView() == null)
+				{
+					return;
+				}
+
+				setLoading(false);
+				page = result;
+
+				if (page != null)
+				{
+					setAdapter();
+					setTitle();
+
+					// onResume has already been called without a page
+					if (isResumed() && getUserVisibleHint())
+					{
+						onPageOpened();
+					}
+				}
+				else
+				{
+					onLoadFail();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Shows or hides the placeholder while the page is loading. The placeholder is the view with the id {@code progress}
+	 * in the layout, if there is one.
+	 *
+	 * @param loading True to show the placeholder, false to hide it
+	 */
+	protected void setLoading(boolean loading)
+	{
+		View progress = getView() == null ? null : getView().findViewById(R.id.progress);
+
+		if (progress != null)
 		{
-			onLoadFail();
+			progress.setVisibility(loading ? View.VISIBLE : View.GONE);
 		}
 	}
 
@@ -193,6 +270,16 @@ public class StormFragment extends Fragment implements StormInterface
 		}
 	}
 
+	@Override public void onDestroyView()
+	{
+		if (adapter != null)
+		{
+			adapter.cancelPreInflate();
+		}
+
+		super.onDestroyView();
+	}
+
 	@Override public void onDestroy()
 	{
 		if (getUserVisibleHint())
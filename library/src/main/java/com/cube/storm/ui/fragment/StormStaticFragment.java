@@ -2,6 +2,7 @@ package com.cube.storm.ui.fragment;
 
 import android.net.Uri;
 import android.os.Bundle;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import android.text.TextUtils;
 import android.view.LayoutInflater;
@@ -16,11 +17,15 @@ import com.cube.storm.ui.activity.StormActivity;
 import com.cube.storm.ui.activity.StormInterface;
 import com.cube.storm.ui.controller.adapter.StormListAdapter;
 import com.cube.storm.ui.lib.EventHook;
+import com.cube.storm.ui.lib.parser.ViewBuilder;
+import com.cube.storm.ui.model.Model;
 import com.cube.storm.ui.model.page.GridPage;
 import com.cube.storm.ui.model.page.ListPage;
 import com.cube.storm.ui.model.page.Page;
 import com.cube.storm.ui.view.AdapterLinearLayout;
 
+import java.util.Collection;
+
 import lombok.Getter;
 
 /**
@@ -38,6 +43,11 @@ public class StormStaticFragment extends Fragment implements StormInterface
 	@Getter protected StormListAdapter adapter;
 	@Getter protected Page page;
 
+	/**
+	 * Incremented for every call to {@link #loadPage(String)}, so only the result of the latest load is applied
+	 */
+	private int loadRequest = 0;
+
 	@Override public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState)
 	{
 		View v = inflater.inflate(getLayoutResource(), container, false);
@@ -93,15 +103,25 @@ public class StormStaticFragment extends Fragment implements StormInterface
 
 	public void setAdapter()
 	{
+		Collection<? extends Model> items = null;
+
 		if (page instanceof ListPage)
 		{
-			adapter.setItems(page.getChildren());
+			items = page.getChildren();
 		}
 		else if (page instanceof GridPage)
 		{
-			adapter.setItems(((GridPage)page).getGrid().getChildren());
+			items = ((GridPage)page).getGrid().getChildren();
 		}
 
+		// Content update for a page that is already being shown, only rebind the views that changed
+		if (adapterView.getAdapter() == adapter)
+		{
+			adapter.updateItems(items);
+			return;
+		}
+
+		adapter.setItems(items);
 		adapterView.setAdapter(adapter);
 		adapterView.notifyDataSetChanged();
 	}
@@ -128,6 +148,13 @@ public class StormStaticFragment extends Fragment implements StormInterface
 	{
 		super.onSaveInstanceState(outState);
 
+		// Pages parsed with pruned languages only hold the current language, so they are built again when restored in
+		// case the language has changed, for example when the activity is recreated after a language switch
+		if (UiSettings.getInstance().isPruneLanguages())
+		{
+			return;
+		}
+
 		if (adapter != null)
 		{
 			outState.putSerializable("adapter", adapter.saveState());
@@ -139,18 +166,60 @@ public class StormStaticFragment extends Fragment implements StormInterface
 		}
 	}
 
+	/**
+	 * Loads the page on {@link UiSettings#getBackgroundExecutor()}, showing the placeholder until it has been built
+	 */
 	@Override public void loadPage(String pageUri)
 	{
-		page = UiSettings.getInstance().getViewBuilder().buildPage(Uri.parse(pageUri));
+		setLoading(true);
 
-		if (page != null)
+		final int request = ++loadRequest;
+
+		UiSettings.getInstance().getViewBuilder().buildPageAsync(Uri.parse(pageUri), new ViewBuilder.OnBuildListener<Page>()
 		{
-			setAdapter();
-			setTitle();
-		}
-		else
+			@Override public void onBuilt(@Nullable Page result)
+			{
+				// The fragment may have been removed while the page was loading, or a newer load started
+				if (request != loadRequest || !isAdded() || getView() == null)
+				{
+					return;
+				}
+
+				setLoading(false);
+				page = result;
+
+				if (page != null)
+				{
+					setAdapter();
+					setTitle();
+
+					// onResume has already been called without a page
+					if (isResumed() && getUserVisibleHint())
+					{
+						onPageOpened();
+					}
+				}
+				else
+				{
+					onLoadFail();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Shows or hides the placeholder while the page is loading. The placeholder is the view with the id {@code progress}
+	 * in the layout, if there is one.
+	 *
+	 * @param loading True to show the placeholder, false to hide it
+	 */
+	protected void setLoading(boolean loading)
+	{
+		View progress = getView() == null ? null : getView().findViewById(R.id.progress);
+
+		if (progress != null)
 		{
-			onLoadFail();
+			progress.setVisibility(loading ? View.VISIBLE : View.GONE);
 		}
 	}
 
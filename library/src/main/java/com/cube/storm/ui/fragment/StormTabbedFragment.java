@@ -4,6 +4,7 @@ import android.net.Uri;
 import android.os.Bundle;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.viewpager.widget.ViewPager;
 import android.view.LayoutInflater;
@@ -18,6 +19,7 @@ import com.cube.storm.ui.activity.StormInterface;
 import com.cube.storm.ui.data.FragmentIntent;
 import com.cube.storm.ui.data.FragmentPackage;
 import com.cube.storm.ui.lib.adapter.StormPageAdapter;
+import com.cube.storm.ui.lib.parser.ViewBuilder;
 import com.cube.storm.ui.model.descriptor.TabbedPageDescriptor;
 import com.cube.storm.ui.model.page.GridPage;
 import com.cube.storm.ui.model.page.ListPage;
@@ -40,6 +42,11 @@ public abstract class StormTabbedFragment extends Fragment implements StormInter
 	@Getter protected StormPageAdapter pageAdapter;
 	@Getter protected ViewPager viewPager;
 
+	/**
+	 * Incremented for every call to {@link #loadPage(String)}, so only the result of the latest load is applied
+	 */
+	private int loadRequest = 0;
+
 	@Override public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState)
 	{
 		View view = inflater.inflate(getLayoutResource(), container, false);
@@ -64,8 +71,6 @@ public abstract class StormTabbedFragment extends Fragment implements StormInter
 		{
 			onLoadFail();
 		}
-
-		switchToTab(INITIAL_TAB);
 	}
 
 	/**
@@ -106,18 +111,38 @@ public abstract class StormTabbedFragment extends Fragment implements StormInter
 	@LayoutRes
 	public abstract int getLayoutResource();
 
+	/**
+	 * Loads the collection on {@link UiSettings#getBackgroundExecutor()} and switches to {@link #INITIAL_TAB} once the
+	 * pages have been added. The options menu is invalidated afterwards so it can include the loaded pages
+	 */
 	@Override public void loadPage(String pageUri)
 	{
-		TabbedPageCollection pages = UiSettings.getInstance().getViewBuilder().buildTabbedPage(Uri.parse(pageUri));
+		final int request = ++loadRequest;
 
-		if (pages != null)
+		UiSettings.getInstance().getViewBuilder().buildTabbedPageAsync(Uri.parse(pageUri), new ViewBuilder.OnBuildListener<TabbedPageCollection>()
 		{
-			loadPages(pages);
-		}
-		else
-		{
-			onLoadFail();
-		}
+			@Override public void onBuilt(@Nullable TabbedPageCollection pages)
+			{
+				// The fragment may have been removed while the collection was loading, or a newer load started
+				if (request != loadRequest || !isAdded() || getView() == null)
+				{
+					return;
+				}
+
+				if (pages != null)
+				{
+					loadPages(pages);
+					switchToTab(INITIAL_TAB);
+
+					// Menus built before the pages arrived are missing any page driven items
+					getActivity().invalidateOptionsMenu();
+				}
+				else
+				{
+					onLoadFail();
+				}
+			}
+		});
 	}
 
 	@Override public void onLoadFail()
@@ -2,7 +2,9 @@ package com.cube.storm.ui.lib.adapter;
 
 import android.content.Context;
 import android.graphics.Bitmap;
+import android.view.View;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 import androidx.fragment.app.FragmentPagerAdapter;
@@ -14,27 +16,46 @@ import com.cube.storm.ui.data.FragmentPackage;
 import com.cube.storm.ui.lib.helper.ImageHelper;
 import com.cube.storm.ui.model.descriptor.TabbedPageDescriptor;
 import com.cube.storm.ui.model.property.ImageProperty;
-import com.cube.storm.ui.view.PagerSlidingTabStrip.IconTabProvider;
+import com.cube.storm.ui.view.PagerSlidingTabStrip.AsyncIconTabProvider;
+import com.cube.storm.ui.view.PagerSlidingTabStrip.OnPageIconLoadedListener;
+import com.nostra13.universalimageloader.core.assist.FailReason;
+import com.nostra13.universalimageloader.core.listener.SimpleImageLoadingListener;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import lombok.Getter;
 import lombok.Setter;
 
 /**
- * // TODO: Add class description
+ * Pager adapter for the pages of a tabbed page. Tab icons are loaded in the background with the image loader and cached
+ * by their source, {@link #getPageIconBitmap(int)} never blocks the main thread.
  *
  * @author Callum Taylor
  * @project LightningUi
  */
-public class StormPageAdapter extends FragmentPagerAdapter implements IconTabProvider
+public class StormPageAdapter extends FragmentPagerAdapter implements AsyncIconTabProvider
 {
 	protected final Context context;
 	protected final FragmentManager manager;
 	@Setter @Getter protected int index = 0;
 	@Getter private List<FragmentPackage> pages = new ArrayList<FragmentPackage>(0);
+	@Setter protected OnPageIconLoadedListener onPageIconLoadedListener;
+
+	/**
+	 * Loaded tab icons, keyed by their source
+	 */
+	private final Map<String, Bitmap> icons = new HashMap<String, Bitmap>();
+
+	/**
+	 * Sources of the tab icons that are currently loading
+	 */
+	private final Set<String> loadingIcons = new HashSet<String>();
 
 	public StormPageAdapter(Context context, FragmentManager manager)
 	{
@@ -93,28 +114,98 @@ public class StormPageAdapter extends FragmentPagerAdapter implements IconTabPro
 		return 0;
 	}
 
+	/**
+	 * Gets the loaded icon of a tab, starting to load it if it has not been loaded yet. The icon is delivered to the
+	 * {@link OnPageIconLoadedListener} once it has loaded.
+	 *
+	 * @param position The position of the tab
+	 *
+	 * @return The icon, or null if the tab has no icon or it is still loading
+	 */
 	@Override public Bitmap getPageIconBitmap(int position)
 	{
-		FragmentPackage fragmentPackage = pages.get(position % pages.size());
-		Bitmap image = null;
+		final String imageSrc = getPageIconSrc(position);
 
-		if (fragmentPackage.getPageDescriptor() instanceof TabbedPageDescriptor)
+		if (imageSrc == null)
 		{
-			if (((TabbedPageDescriptor)fragmentPackage.getPageDescriptor()).getTabBarItem().getImage() != null)
+			return null;
+		}
+
+		if (!icons.containsKey(imageSrc) && loadingIcons.add(imageSrc))
+		{
+			UiSettings.getInstance().getImageLoader().loadImage(imageSrc, new SimpleImageLoadingListener()
 			{
-				ArrayList<ImageProperty> imageProperty = ((TabbedPageDescriptor)fragmentPackage.getPageDescriptor()).getTabBarItem().getImage();
-				String imageSrc = ImageHelper.getImageSrc(imageProperty);
+				@Override public void onLoadingComplete(String imageUri, View view, Bitmap loadedImage)
+				{
+					loadingIcons.remove(imageSrc);
+
+					if (loadedImage != null)
+					{
+						icons.put(imageSrc, loadedImage);
+						notifyPageIconLoaded(imageSrc, loadedImage);
+					}
+				}
 
-				image = UiSettings.getInstance().getImageLoader().loadImageSync(imageSrc);
+				@Override public void onLoadingFailed(String imageUri, View view, FailReason failReason)
+				{
+					loadingIcons.remove(imageSrc);
+				}
 
-				return image;
-			}
+				@Override public void onLoadingCancelled(String imageUri, View view)
+				{
+					loadingIcons.remove(imageSrc);
+				}
+			});
 		}
 
+		// Images already in the memory cache are delivered before loadImage returns
+		return icons.get(imageSrc);
+	}
+
+	/**
+	 * Gets the source of the icon of a tab
+	 *
+	 * @param position The position of the tab
+	 *
+	 * @return The source, or null if the tab has no icon
+	 */
+	@Nullable
+	protected String getPageIconSrc(int position)
+	{
+		FragmentPackage fragmentPackage = pages.get(position % pages.size());
+
+		if (fragmentPackage.getPageDescriptor() instanceof TabbedPageDescriptor)
+		{
+			ArrayList<ImageProperty> imageProperty = ((TabbedPageDescriptor)fragmentPackage.getPageDescriptor()).getTabBarItem().getImage();
+
+			if (imageProperty != null)
+			{
+				return ImageHelper.getImageSrc(imageProperty);
+			}
+		}
 
 		return null;
 	}
 
+	/**
+	 * Delivers a loaded icon to every tab using it
+	 */
+	private void notifyPageIconLoaded(@NonNull String imageSrc, @NonNull Bitmap bitmap)
+	{
+		if (onPageIconLoadedListener == null)
+		{
+			return;
+		}
+
+		for (int position = 0; position < pages.size(); position++)
+		{
+			if (imageSrc.equals(getPageIconSrc(position)))
+			{
+				onPageIconLoadedListener.onPageIconLoaded(position, bitmap);
+			}
+		}
+	}
+
 	@Override public int getCount()
 	{
 		return this.pages.size();
@@ -0,0 +1,261 @@
+package com.cube.storm.ui.lib.bundle;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view of a content bundle built by the {@code :bundler} module. The bundle is a single indexed file containing
+ * the minified json of {@code app.json}, {@code pages/*.json} and any other json in the content, so loading a page is a
+ * lookup in the index and a read from memory rather than a file open and read per page.
+ * <p/>
+ * Bundles are memory mapped where possible. Bundles in the assets folder can only be mapped if they are stored
+ * uncompressed in the apk, add {@code noCompress 'sbundle'} to the {@code aaptOptions} of the app to enable this.
+ * Compressed assets are read into memory instead.
+ * <p/>
+ * Use with {@link com.cube.storm.ui.lib.resolver.BundleResolver}
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class ContentBundle
+{
+	public static final byte[] MAGIC = {'S', 'T', 'R', 'M', 'B', 'N', 'D', 'L'};
+	public static final int VERSION = 1;
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * Map of path to {offset, length} of the entry in {@link #buffer}
+	 */
+	private final Map<String, int[]> entries;
+
+	/**
+	 * Memory maps a bundle file
+	 *
+	 * @param file The bundle file
+	 *
+	 * @return The bundle
+	 */
+	@NonNull
+	public static ContentBundle open(@NonNull File file) throws IOException
+	{
+		FileInputStream stream = new FileInputStream(file);
+
+		try
+		{
+			FileChannel channel = stream.getChannel();
+			return new ContentBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Opens a bundle from the assets folder, memory mapping it if it is stored uncompressed
+	 *
+	 * @param assets The asset manager to open from
+	 * @param path The path of the bundle in the assets folder
+	 *
+	 * @return The bundle
+	 */
+	@NonNull
+	public static ContentBundle open(@NonNull AssetManager assets, @NonNull String path) throws IOException
+	{
+		AssetFileDescriptor descriptor;
+
+		try
+		{
+			descriptor = assets.openFd(path);
+		}
+		catch (FileNotFoundException e)
+		{
+			// Compressed assets can't be opened as a file descriptor
+			return new ContentBundle(ByteBuffer.wrap(readFully(assets.open(path))));
+		}
+
+		FileInputStream stream = descriptor.createInputStream();
+
+		try
+		{
+			return new ContentBundle(stream.getChannel().map(FileChannel.MapMode.READ_ONLY, descriptor.getStartOffset(), descriptor.getLength()));
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Reads the index of a bundle
+	 *
+	 * @param buffer The bundle data
+	 */
+	public ContentBundle(@NonNull ByteBuffer buffer) throws IOException
+	{
+		this.buffer = buffer;
+
+		ByteBuffer header = buffer.duplicate();
+		byte[] magic = new byte[MAGIC.length];
+		header.get(magic);
+
+		for (int index = 0; index < MAGIC.length; index++)
+		{
+			if (magic[index] != MAGIC[index])
+			{
+				throw new IOException("Not a content bundle");
+			}
+		}
+
+		int version = header.getInt();
+		if (version != VERSION)
+		{
+			throw new IOException("Unsupported content bundle version " + version);
+		}
+
+		int count = header.getInt();
+		entries = new HashMap<>((int)(count / 0.75f) + 1);
+
+		for (int index = 0; index < count; index++)
+		{
+			byte[] path = new byte[header.getInt()];
+			header.get(path);
+
+			int offset = header.getInt();
+			int length = header.getInt();
+
+			if (offset < 0 || length < 0 || offset + length > buffer.limit())
+			{
+				throw new IOException("Corrupt content bundle entry " + index);
+			}
+
+			entries.put(new String(path, "UTF-8"), new int[]{offset, length});
+		}
+	}
+
+	/**
+	 * @return The paths of all the files in the bundle
+	 */
+	@NonNull
+	public Set<String> getPaths()
+	{
+		return Collections.unmodifiableSet(entries.keySet());
+	}
+
+	/**
+	 * @param path The path of the file, relative to the content root, for example {@code pages/1.json}
+	 *
+	 * @return True if the file is in the bundle
+	 */
+	public boolean contains(@NonNull String path)
+	{
+		return entries.containsKey(path);
+	}
+
+	/**
+	 * Opens a file in the bundle. The stream reads straight from the bundle's buffer and does not need closing.
+	 *
+	 * @param path The path of the file, relative to the content root, for example {@code pages/1.json}
+	 *
+	 * @return The stream, or null if the file is not in the bundle
+	 */
+	@Nullable
+	public InputStream open(@NonNull String path)
+	{
+		int[] entry = entries.get(path);
+
+		if (entry == null)
+		{
+			return null;
+		}
+
+		ByteBuffer slice = buffer.duplicate();
+		slice.limit(entry[0] + entry[1]);
+		slice.position(entry[0]);
+
+		return new ByteBufferInputStream(slice);
+	}
+
+	private static byte[] readFully(InputStream stream) throws IOException
+	{
+		try
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(stream.available(), 8192));
+			byte[] buffer = new byte[8192];
+			int read;
+
+			while ((read = stream.read(buffer)) != -1)
+			{
+				out.write(buffer, 0, read);
+			}
+
+			return out.toByteArray();
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	private static class ByteBufferInputStream extends InputStream
+	{
+		private final ByteBuffer buffer;
+
+		public ByteBufferInputStream(ByteBuffer buffer)
+		{
+			this.buffer = buffer;
+		}
+
+		@Override public int read()
+		{
+			return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+		}
+
+		@Override public int read(@NonNull byte[] bytes, int offset, int length)
+		{
+			if (length == 0)
+			{
+				return 0;
+			}
+
+			if (!buffer.hasRemaining())
+			{
+				return -1;
+			}
+
+			length = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, length);
+
+			return length;
+		}
+
+		@Override public long skip(long count)
+		{
+			int skipped = (int)Math.max(0, Math.min(count, buffer.remaining()));
+			buffer.position(buffer.position() + skipped);
+
+			return skipped;
+		}
+
+		@Override public int available()
+		{
+			return buffer.remaining();
+		}
+	}
+}
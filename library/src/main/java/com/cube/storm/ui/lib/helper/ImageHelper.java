@@ -14,7 +14,7 @@ import com.nostra13.universalimageloader.core.imageaware.ImageViewAware;
 import com.nostra13.universalimageloader.core.listener.ImageLoadingListener;
 import com.nostra13.universalimageloader.core.listener.SimpleImageLoadingListener;
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -86,6 +86,17 @@ public class ImageHelper
 		return getImageProperty(images, 0, 0);
 	}
 
+	/**
+	 * Selects the image to display from a list of variants of the same image. The list is not modified. Selections are
+	 * memoised per list instance, size and {@link ContentSize}, so selecting the image for the same list again does not
+	 * sort or allocate.
+	 *
+	 * @param images The image variants
+	 * @param width The width the image will be displayed at, or 0 to select by {@link UiSettings#getContentSize()}
+	 * @param height The height the image will be displayed at, or 0 to select by {@link UiSettings#getContentSize()}
+	 *
+	 * @return The selected image, or null if there are no images
+	 */
 	@Nullable
 	public static ImageProperty getImageProperty(@Nullable List<? extends ImageProperty> images, int width, int height)
 	{
@@ -94,32 +105,60 @@ public class ImageHelper
 			return null;
 		}
 
-		Collections.sort(images, new ImagePropertyComparator());
+		ContentSize contentSize = UiSettings.getInstance().getContentSize();
+		int slot = (System.identityHashCode(images) * 31 + width * 17 + height) & (selections.length - 1);
 
-		if ((width == 0 && height == 0) || UiSettings.getInstance().getContentSize() != ContentSize.AUTO)
+		synchronized (selections)
 		{
-			if (UiSettings.getInstance().getContentSize() == ContentSize.SMALL)
+			Selection selection = selections[slot];
+
+			if (selection != null && selection.matches(images, width, height, contentSize))
 			{
-				return images.get(0);
+				return selection.result;
 			}
-			else if (UiSettings.getInstance().getContentSize() == ContentSize.LARGE)
+
+			ImageProperty[] sorted = images.toArray(new ImageProperty[images.size()]);
+			ImageProperty[] original = sorted.clone();
+			Arrays.sort(sorted, COMPARATOR);
+
+			selection = new Selection(images, original, width, height, contentSize, selectImage(sorted, width, height, contentSize));
+			selections[slot] = selection;
+
+			return selection.result;
+		}
+	}
+
+	/**
+	 * Selects the image to display from variants sorted by area
+	 */
+	@NonNull
+	private static ImageProperty selectImage(@NonNull ImageProperty[] images, int width, int height, ContentSize contentSize)
+	{
+		if ((width == 0 && height == 0) || contentSize != ContentSize.AUTO)
+		{
+			if (contentSize == ContentSize.SMALL)
+			{
+				return images[0];
+			}
+			else if (contentSize == ContentSize.LARGE)
 			{
-				return images.get(Math.max(images.size() - 2, 0));
+				return images[Math.max(images.length - 2, 0)];
 			}
-			else if (UiSettings.getInstance().getContentSize() == ContentSize.XLARGE)
+			else if (contentSize == ContentSize.XLARGE)
 			{
-				return images.get(images.size() - 1);
+				return images[images.length - 1];
 			}
 
-			return images.get((int)Math.min(Math.ceil((double)images.size() / 2d), images.size() - 1));
+			return images[(int)Math.min(Math.ceil((double)images.length / 2d), images.length - 1)];
 		}
 		else
 		{
+			// Width and height don't both increase with area, so every variant has to be checked
 			int closest = -1;
-			for (int index = 0, count = images.size(); index < count; index++)
+			for (int index = 0, count = images.length; index < count; index++)
 			{
-				int imageWidth = images.get(index).getDimensions().getWidth();
-				int imageHeight = images.get(index).getDimensions().getHeight();
+				int imageWidth = images[index].getDimensions().getWidth();
+				int imageHeight = images[index].getDimensions().getHeight();
 
 				if ((width == 0 || width >= imageWidth) && (height == 0 || height >= imageHeight))
 				{
@@ -130,10 +169,61 @@ public class ImageHelper
 			if (closest == -1)
 			{
 				// return image based on content size instead if an image couldnt be matched
-				return getImageProperty(images, 0, 0);
+				return selectImage(images, 0, 0, contentSize);
+			}
+
+			return images[closest];
+		}
+	}
+
+	private static final Comparator<ImageProperty> COMPARATOR = new ImagePropertyComparator();
+
+	/**
+	 * Direct mapped cache of image selections, indexed by the identity of the list and the requested size
+	 */
+	private static final Selection[] selections = new Selection[128];
+
+	/**
+	 * A memoised result of {@link #getImageProperty(List, int, int)}
+	 */
+	private static class Selection
+	{
+		private final List<? extends ImageProperty> images;
+		private final ImageProperty[] original;
+		private final int width;
+		private final int height;
+		private final ContentSize contentSize;
+		private final ImageProperty result;
+
+		public Selection(List<? extends ImageProperty> images, ImageProperty[] original, int width, int height, ContentSize contentSize, ImageProperty result)
+		{
+			this.images = images;
+			this.original = original;
+			this.width = width;
+			this.height = height;
+			this.contentSize = contentSize;
+			this.result = result;
+		}
+
+		/**
+		 * @return True if this selection was made for the same list, with the same images, and the same size
+		 */
+		public boolean matches(List<? extends ImageProperty> images, int width, int height, ContentSize contentSize)
+		{
+			if (this.images != images || this.width != width || this.height != height || this.contentSize != contentSize || original.length != images.size())
+			{
+				return false;
+			}
+
+			for (int index = 0; index < original.length; index++)
+			{
+				if (original[index] != images.get(index))
+				{
+					return false;
+				}
 			}
 
-			return images.get(closest);
+			return true;
 		}
 	}
 
@@ -141,8 +231,8 @@ public class ImageHelper
 	{
 		@Override public int compare(ImageProperty lhs, ImageProperty rhs)
 		{
-			long totalArea = lhs.getDimensions().getHeight() * lhs.getDimensions().getWidth();
-			return Long.valueOf(totalArea).compareTo((long)(rhs.getDimensions().getHeight() * rhs.getDimensions().getWidth()));
+			long totalArea = (long)lhs.getDimensions().getHeight() * lhs.getDimensions().getWidth();
+			return Long.valueOf(totalArea).compareTo((long)rhs.getDimensions().getHeight() * rhs.getDimensions().getWidth());
 		}
 	}
 }
@@ -0,0 +1,113 @@
+package com.cube.storm.ui.lib.helper;
+
+import android.text.TextUtils;
+import androidx.annotation.NonNull;
+
+import com.cube.storm.UiSettings;
+
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Holds the languages used to resolve {@link com.cube.storm.ui.model.property.TextProperty} content for the active locale.
+ * Resolved content is cached on each text property against {@link #getGeneration()}, which is bumped whenever the
+ * default locale or the default language changes, so every cached text is invalidated at once.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class LocaleHelper
+{
+	private static volatile int generation = 0;
+	private static volatile Locale locale;
+	private static volatile String[] languages = new String[0];
+
+	/**
+	 * Gets the current generation of the resolved text. The generation changes whenever the languages returned by
+	 * {@link #getLanguages()} change.
+	 *
+	 * @return The generation
+	 */
+	public static int getGeneration()
+	{
+		if (locale != Locale.getDefault())
+		{
+			update();
+		}
+
+		return generation;
+	}
+
+	/**
+	 * Gets the languages to resolve text with, in order of preference. This is the language of the default locale,
+	 * followed by the language of {@link UiSettings#getDefaultLanguageUri()}.
+	 *
+	 * @return The language codes
+	 */
+	@NonNull
+	public static String[] getLanguages()
+	{
+		if (locale != Locale.getDefault())
+		{
+			update();
+		}
+
+		return languages;
+	}
+
+	/**
+	 * Invalidates all of the resolved text. Call this when the language of the app changes without changing the default
+	 * locale. Models parsed with {@link UiSettings#isPruneLanguages()} set are not parsed again, they need to be built
+	 * again by the app.
+	 */
+	public static synchronized void invalidate()
+	{
+		locale = null;
+	}
+
+	private static synchronized void update()
+	{
+		Locale current = Locale.getDefault();
+
+		if (locale == current)
+		{
+			return;
+		}
+
+		ArrayList<String> chain = new ArrayList<>(2);
+		chain.add(current.getLanguage());
+
+		String defaultLanguage = getDefaultLanguage();
+
+		if (!TextUtils.isEmpty(defaultLanguage) && !chain.contains(defaultLanguage))
+		{
+			chain.add(defaultLanguage);
+		}
+
+		languages = chain.toArray(new String[chain.size()]);
+		generation++;
+		locale = current;
+	}
+
+	/**
+	 * Gets the language code of the default language uri, for example {@code en} for {@code assets://languages/gbr_en.json}
+	 */
+	private static String getDefaultLanguage()
+	{
+		String uri = UiSettings.getInstance().getDefaultLanguageUri();
+
+		if (TextUtils.isEmpty(uri))
+		{
+			return null;
+		}
+
+		String name = uri.substring(uri.lastIndexOf('/') + 1);
+
+		if (name.contains("."))
+		{
+			name = name.substring(0, name.indexOf('.'));
+		}
+
+		return name.substring(name.lastIndexOf('_') + 1).toLowerCase(Locale.ENGLISH);
+	}
+}
@@ -1,36 +1,217 @@
 package com.cube.storm.ui.lib.helper;
 
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.RecyclerView.RecycledViewPool;
 
+import com.cube.storm.UiSettings;
+import com.cube.storm.ui.view.holder.ViewHolderFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * RecycledViewPoolHelper
- * Creates a singleton for the view holder pool in the recycler view for memory saving and sharing of views within different lists
+ * Holds the view holder pool shared by the recycler views of an Activity for memory saving and sharing of views within
+ * different lists. Holders keep a reference to the Activity they were inflated with, so each Activity has its own pool
+ * which is cleared and dropped when the Activity is destroyed. Must only be used from the main thread.
+ * <p/>
+ * View types come from {@link ViewTypeHelper} so they are the same in every list, and the maximum number of holders kept
+ * for each type is taken from {@link UiSettings#getRecycledViewPoolSizes()}. Holders listed in
+ * {@link UiSettings#getPrewarmViewHolders()} are created the first time a list is shown, once the main thread is idle.
  *
  * @author Luke Reed
  * @project LightningUi
  */
 public class RecycledViewPoolHelper
 {
-	private static RecycledViewPoolHelper instance;
+	private static final Map<Context, RecycledViewPoolHelper> instances = new HashMap<Context, RecycledViewPoolHelper>();
+	private static boolean lifecycleRegistered = false;
+	private static RecycledViewPoolHelper applicationInstance;
+
 	private RecycledViewPool recycledViewPool;
+	private boolean prewarmed = false;
 
-	public void RecyclerViewPoolHelper()
+	private RecycledViewPoolHelper()
 	{
 		recycledViewPool = new RecycledViewPool();
+		applyPoolSizes();
 	}
 
+	/**
+	 * Gets the application wide pool helper. Holders in this pool are never cleared, so they keep the Activity they were
+	 * inflated with alive.
+	 *
+	 * @return The helper instance
+	 *
+	 * @deprecated Use {@link #getInstance(Context)}, which keeps a pool per Activity and clears it when the Activity is
+	 * destroyed
+	 */
+	@Deprecated
 	public static RecycledViewPoolHelper getInstance()
 	{
+		if (applicationInstance == null)
+		{
+			applicationInstance = new RecycledViewPoolHelper();
+		}
+
+		return applicationInstance;
+	}
+
+	/**
+	 * Gets the pool helper of the Activity a context belongs to. Contexts which do not belong to an Activity share a
+	 * helper for the application.
+	 *
+	 * @param context The context of the recycler view
+	 *
+	 * @return The helper instance
+	 */
+	public static RecycledViewPoolHelper getInstance(@NonNull Context context)
+	{
+		registerLifecycleCallbacks(context);
+
+		Context owner = getOwner(context);
+		RecycledViewPoolHelper instance = instances.get(owner);
+
 		if (instance == null)
 		{
 			instance = new RecycledViewPoolHelper();
+			instances.put(owner, instance);
 		}
 
 		return instance;
 	}
 
+	/**
+	 * @return The Activity the context is wrapping, or the application context if there is none
+	 */
+	private static Context getOwner(@NonNull Context context)
+	{
+		Context owner = context;
+
+		while (owner instanceof ContextWrapper)
+		{
+			if (owner instanceof Activity)
+			{
+				return owner;
+			}
+
+			owner = ((ContextWrapper)owner).getBaseContext();
+		}
+
+		return context.getApplicationContext();
+	}
+
+	/**
+	 * Clears and drops the pool of each Activity when it is destroyed
+	 */
+	private static void registerLifecycleCallbacks(@NonNull Context context)
+	{
+		if (lifecycleRegistered || !(context.getApplicationContext() instanceof Application))
+		{
+			return;
+		}
+
+		lifecycleRegistered = true;
+		((Application)context.getApplicationContext()).registerActivityLifecycleCallbacks(new Application.ActivityLifecycleCallbacks()
+		{
+			@Override public void onActivityDestroyed(Activity activity)
+			{
+				RecycledViewPoolHelper instance = instances.remove(activity);
+
+				if (instance != null)
+				{
+					instance.clear();
+				}
+			}
+
+			@Override public void onActivityCreated(Activity activity, Bundle savedInstanceState){}
+			@Override public void onActivityStarted(Activity activity){}
+			@Override public void onActivityResumed(Activity activity){}
+			@Override public void onActivityPaused(Activity activity){}
+			@Override public void onActivityStopped(Activity activity){}
+			@Override public void onActivitySaveInstanceState(Activity activity, Bundle outState){}
+		});
+	}
+
 	public RecycledViewPool getRecycledViewPool()
 	{
 		return recycledViewPool;
 	}
+
+	/**
+	 * Sets the maximum number of recycled holders of each view type from {@link UiSettings#getRecycledViewPoolSizes()}.
+	 * Call this again if the sizes are changed after the pool has been created.
+	 */
+	public void applyPoolSizes()
+	{
+		for (Map.Entry<Class<? extends ViewHolderFactory>, Integer> entry : UiSettings.getInstance().getRecycledViewPoolSizes().entrySet())
+		{
+			recycledViewPool.setMaxRecycledViews(ViewTypeHelper.getViewType(entry.getKey()), entry.getValue());
+		}
+	}
+
+	/**
+	 * Fills the pool with the holders in {@link UiSettings#getPrewarmViewHolders()}, using the adapter of the recycler view
+	 * to create them. This only happens once per Activity, and is deferred until the main thread is idle so it does not
+	 * delay the first frame of the list. The recycler view must already have its adapter set.
+	 *
+	 * @param recyclerView The recycler view using the shared pool
+	 */
+	public void prewarm(@NonNull final RecyclerView recyclerView)
+	{
+		if (prewarmed || UiSettings.getInstance().getPrewarmViewHolders().isEmpty())
+		{
+			return;
+		}
+
+		prewarmed = true;
+		Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler()
+		{
+			@Override public boolean queueIdle()
+			{
+				RecyclerView.Adapter adapter = recyclerView.getAdapter();
+
+				if (adapter == null)
+				{
+					prewarmed = false;
+					return false;
+				}
+
+				for (Map.Entry<Class<? extends ViewHolderFactory>, Integer> entry : UiSettings.getInstance().getPrewarmViewHolders().entrySet())
+				{
+					int viewType = ViewTypeHelper.getViewType(entry.getKey());
+
+					try
+					{
+						for (int count = recycledViewPool.getRecycledViewCount(viewType); count < entry.getValue(); count++)
+						{
+							recycledViewPool.putRecycledView(adapter.createViewHolder(recyclerView, viewType));
+						}
+					}
+					catch (Exception e)
+					{
+						e.printStackTrace();
+					}
+				}
+
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * Removes all of the holders from the pool
+	 */
+	public void clear()
+	{
+		recycledViewPool.clear();
+	}
 }
@@ -0,0 +1,52 @@
+package com.cube.storm.ui.lib.helper;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Helper class for string comparisons used by the lookup indexes
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class StringHelper
+{
+	/**
+	 * Case folds a string so that two strings are {@link String#equalsIgnoreCase(String)} if and only if their folded
+	 * forms are equal. This is the same per character comparison that {@code equalsIgnoreCase} uses, which makes the
+	 * folded string safe to use as a hash key for case insensitive lookups.
+	 *
+	 * @param value The string to fold
+	 *
+	 * @return The folded string, or the same instance if it is already folded
+	 */
+	@NonNull
+	public static String foldCase(@NonNull String value)
+	{
+		int length = value.length();
+		int index = 0;
+
+		while (index < length && fold(value.charAt(index)) == value.charAt(index))
+		{
+			index++;
+		}
+
+		if (index == length)
+		{
+			return value;
+		}
+
+		char[] chars = value.toCharArray();
+
+		for (; index < length; index++)
+		{
+			chars[index] = fold(chars[index]);
+		}
+
+		return new String(chars);
+	}
+
+	private static char fold(char value)
+	{
+		return Character.toLowerCase(Character.toUpperCase(value));
+	}
+}
@@ -1,13 +1,11 @@
 package com.cube.storm.ui.lib.helper;
 
+import com.cube.storm.ui.lib.parser.ModelRegistration;
 import com.cube.storm.ui.lib.resolver.DefaultViewResolver;
 import com.cube.storm.ui.lib.resolver.ViewResolver;
-import com.cube.storm.ui.model.descriptor.PageDescriptor;
-import com.cube.storm.ui.model.descriptor.TabbedPageDescriptor;
-import com.cube.storm.ui.model.grid.Grid;
+import com.cube.storm.ui.model.Model;
 import com.cube.storm.ui.model.grid.GridItem;
 import com.cube.storm.ui.model.grid.ImageGridItem;
-import com.cube.storm.ui.model.grid.NativeGridItem;
 import com.cube.storm.ui.model.grid.StandardGridItem;
 import com.cube.storm.ui.model.list.AnimationListItem;
 import com.cube.storm.ui.model.list.ButtonListItem;
@@ -18,7 +16,6 @@ import com.cube.storm.ui.model.list.HeaderListItem;
 import com.cube.storm.ui.model.list.ImageListItem;
 import com.cube.storm.ui.model.list.List;
 import com.cube.storm.ui.model.list.LogoListItem;
-import com.cube.storm.ui.model.list.NativeListItem;
 import com.cube.storm.ui.model.list.OrderedListItem;
 import com.cube.storm.ui.model.list.SpotlightListItem;
 import com.cube.storm.ui.model.list.StandardListItem;
@@ -29,20 +26,7 @@ import com.cube.storm.ui.model.list.UnorderedListItem;
 import com.cube.storm.ui.model.list.VideoListItem;
 import com.cube.storm.ui.model.list.collection.AppCollectionItem;
 import com.cube.storm.ui.model.list.collection.CollectionListItem;
-import com.cube.storm.ui.model.list.collection.NativeCollectionItem;
-import com.cube.storm.ui.model.page.GridPage;
-import com.cube.storm.ui.model.page.ListPage;
-import com.cube.storm.ui.model.page.NativePage;
-import com.cube.storm.ui.model.page.TabbedPageCollection;
-import com.cube.storm.ui.model.property.DestinationLinkProperty;
-import com.cube.storm.ui.model.property.ExternalLinkProperty;
-import com.cube.storm.ui.model.property.ImageProperty;
-import com.cube.storm.ui.model.property.InternalLinkProperty;
-import com.cube.storm.ui.model.property.NativeLinkProperty;
-import com.cube.storm.ui.model.property.ShareLinkProperty;
-import com.cube.storm.ui.model.property.SmsLinkProperty;
-import com.cube.storm.ui.model.property.UriLinkProperty;
-import com.cube.storm.ui.model.property.VideoProperty;
+import com.cube.storm.ui.view.holder.ViewHolderFactory;
 import com.cube.storm.ui.view.holder.grid.GridItemViewHolder;
 import com.cube.storm.ui.view.holder.grid.ImageGridItemViewHolder;
 import com.cube.storm.ui.view.holder.grid.StandardGridItemViewHolder;
@@ -81,80 +65,51 @@ public class ViewHelper
 {
 	public static Map<String, ViewResolver> getViewResolvers()
 	{
+		Map<String, Class<? extends ViewHolderFactory>> factories = getViewHolderFactories();
 		HashMap<String, ViewResolver> views = new HashMap<>();
 
-		/**
-		 * Private views - These are not driven by the CMS, these are internal classes derived from
-		 * the list model.
-		 */
-		views.put(List.ListHeader.CLASS_NAME, new DefaultViewResolver(List.ListHeader.class, ListHeaderViewHolder.Factory.class));
-		views.put(List.ListFooter.CLASS_NAME, new DefaultViewResolver(List.ListFooter.class, ListFooterViewHolder.Factory.class));
-		views.put(Divider.CLASS_NAME, new DefaultViewResolver(Divider.class, DividerViewHolder.Factory.class));
+		for (Map.Entry<String, Class<? extends Model>> model : ModelRegistration.getModels().entrySet())
+		{
+			views.put(model.getKey(), new DefaultViewResolver(model.getValue(), factories.get(model.getKey())));
+		}
 
-		/**
-		 * List items
-		 */
-		views.put(List.CLASS_NAME, new DefaultViewResolver(List.class, null));
-		views.put(TextListItem.CLASS_NAME, new DefaultViewResolver(TextListItem.class, TextListItemViewHolder.Factory.class));
-		views.put(ImageListItem.CLASS_NAME, new DefaultViewResolver(ImageListItem.class, ImageListItemViewHolder.Factory.class));
-		views.put(TitleListItem.CLASS_NAME, new DefaultViewResolver(TitleListItem.class, TitleListItemViewHolder.Factory.class));
-		views.put(DescriptionListItem.CLASS_NAME, new DefaultViewResolver(DescriptionListItem.class, DescriptionListItemViewHolder.Factory.class));
-		views.put(StandardListItem.CLASS_NAME, new DefaultViewResolver(StandardListItem.class, StandardListItemViewHolder.Factory.class));
-		views.put(OrderedListItem.CLASS_NAME, new DefaultViewResolver(OrderedListItem.class, OrderedListItemViewHolder.Factory.class));
-		views.put(UnorderedListItem.CLASS_NAME, new DefaultViewResolver(UnorderedListItem.class, UnorderedListItemViewHolder.Factory.class));
-		views.put(CheckableListItem.CLASS_NAME, new DefaultViewResolver(CheckableListItem.class, CheckableListItemViewHolder.Factory.class));
-		views.put(ButtonListItem.CLASS_NAME, new DefaultViewResolver(ButtonListItem.class, ButtonListItemViewHolder.Factory.class));
-		views.put(ToggleableListItem.CLASS_NAME, new DefaultViewResolver(ToggleableListItem.class, ToggleableListItemViewHolder.Factory.class));
-		views.put(LogoListItem.CLASS_NAME, new DefaultViewResolver(LogoListItem.class, LogoListItemViewHolder.Factory.class));
-		views.put(VideoListItem.CLASS_NAME, new DefaultViewResolver(VideoListItem.class, VideoListItemViewHolder.Factory.class));
-		views.put(SpotlightListItem.CLASS_NAME, new DefaultViewResolver(SpotlightListItem.class, SpotlightListItemViewHolder.Factory.class));
-		views.put(AnimationListItem.CLASS_NAME, new DefaultViewResolver(AnimationListItem.class, AnimationListItemViewHolder.Factory.class));
-		views.put(HeaderListItem.CLASS_NAME, new DefaultViewResolver(HeaderListItem.class, HeaderListItemViewHolder.Factory.class));
-		views.put(NativeListItem.CLASS_NAME, new DefaultViewResolver(NativeListItem.class, null));
-
-		/**
-		 * Grid items
-		 */
-		views.put(Grid.CLASS_NAME, new DefaultViewResolver(Grid.class, null));
-		views.put(GridItem.CLASS_NAME, new DefaultViewResolver(GridItem.class, GridItemViewHolder.Factory.class));
-		views.put(StandardGridItem.CLASS_NAME, new DefaultViewResolver(StandardGridItem.class, StandardGridItemViewHolder.Factory.class));
-		views.put(ImageGridItem.CLASS_NAME, new DefaultViewResolver(ImageGridItem.class, ImageGridItemViewHolder.Factory.class));
-		views.put(NativeGridItem.CLASS_NAME, new DefaultViewResolver(NativeGridItem.class, null));
-
-		/**
-		 * Collection cells
-		 */
-		views.put(CollectionListItem.CLASS_NAME, new DefaultViewResolver(CollectionListItem.class, CollectionListItemViewHolder.Factory.class));
-		views.put(AppCollectionItem.CLASS_NAME, new DefaultViewResolver(AppCollectionItem.class, AppCollectionItemViewHolder.Factory.class));
-		views.put(NativeCollectionItem.CLASS_NAME, new DefaultViewResolver(NativeCollectionItem.class, null));
-
-		/**
-		 * Pages
-		 */
-		views.put(ListPage.CLASS_NAME, new DefaultViewResolver(ListPage.class, null));
-		views.put(GridPage.CLASS_NAME, new DefaultViewResolver(GridPage.class, null));
-		views.put(TabbedPageCollection.CLASS_NAME, new DefaultViewResolver(TabbedPageCollection.class, null));
-		views.put(NativePage.CLASS_NAME, new DefaultViewResolver(NativePage.class, null));
+		return views;
+	}
 
-		/**
-		 * Descriptors
-		 */
-		views.put(PageDescriptor.CLASS_NAME, new DefaultViewResolver(PageDescriptor.class, null));
-		views.put(TabbedPageDescriptor.CLASS_NAME, new DefaultViewResolver(TabbedPageDescriptor.class, null));
+	/**
+	 * Gets the view holder factory of every class name in {@link ModelRegistration#getModels()} that has a view. Class
+	 * names that are not in this map have no view of their own.
+	 *
+	 * @return The map of class names to view holder factories
+	 */
+	private static Map<String, Class<? extends ViewHolderFactory>> getViewHolderFactories()
+	{
+		HashMap<String, Class<? extends ViewHolderFactory>> factories = new HashMap<>();
 
-		/**
-		 * Properties
-		 */
-		views.put(ImageProperty.CLASS_NAME, new DefaultViewResolver(ImageProperty.class, null));
-		views.put(VideoProperty.CLASS_NAME, new DefaultViewResolver(VideoProperty.class, null));
-		views.put(DestinationLinkProperty.CLASS_NAME, new DefaultViewResolver(DestinationLinkProperty.class, null));
-		views.put(InternalLinkProperty.CLASS_NAME, new DefaultViewResolver(InternalLinkProperty.class, null));
-		views.put(ExternalLinkProperty.CLASS_NAME, new DefaultViewResolver(ExternalLinkProperty.class, null));
-		views.put(UriLinkProperty.CLASS_NAME, new DefaultViewResolver(UriLinkProperty.class, null));
-		views.put(ShareLinkProperty.CLASS_NAME, new DefaultViewResolver(ShareLinkProperty.class, null));
-		views.put(SmsLinkProperty.CLASS_NAME, new DefaultViewResolver(SmsLinkProperty.class, null));
-		views.put(NativeLinkProperty.CLASS_NAME, new DefaultViewResolver(NativeLinkProperty.class, null));
+		factories.put(List.ListHeader.CLASS_NAME, ListHeaderViewHolder.Factory.class);
+		factories.put(List.ListFooter.CLASS_NAME, ListFooterViewHolder.Factory.class);
+		factories.put(Divider.CLASS_NAME, DividerViewHolder.Factory.class);
+		factories.put(TextListItem.CLASS_NAME, TextListItemViewHolder.Factory.class);
+		factories.put(ImageListItem.CLASS_NAME, ImageListItemViewHolder.Factory.class);
+		factories.put(TitleListItem.CLASS_NAME, TitleListItemViewHolder.Factory.class);
+		factories.put(DescriptionListItem.CLASS_NAME, DescriptionListItemViewHolder.Factory.class);
+		factories.put(StandardListItem.CLASS_NAME, StandardListItemViewHolder.Factory.class);
+		factories.put(OrderedListItem.CLASS_NAME, OrderedListItemViewHolder.Factory.class);
+		factories.put(UnorderedListItem.CLASS_NAME, UnorderedListItemViewHolder.Factory.class);
+		factories.put(CheckableListItem.CLASS_NAME, CheckableListItemViewHolder.Factory.class);
+		factories.put(ButtonListItem.CLASS_NAME, ButtonListItemViewHolder.Factory.class);
+		factories.put(ToggleableListItem.CLASS_NAME, ToggleableListItemViewHolder.Factory.class);
+		factories.put(LogoListItem.CLASS_NAME, LogoListItemViewHolder.Factory.class);
+		factories.put(VideoListItem.CLASS_NAME, VideoListItemViewHolder.Factory.class);
+		factories.put(SpotlightListItem.CLASS_NAME, SpotlightListItemViewHolder.Factory.class);
+		factories.put(AnimationListItem.CLASS_NAME, AnimationListItemViewHolder.Factory.class);
+		factories.put(HeaderListItem.CLASS_NAME, HeaderListItemViewHolder.Factory.class);
+		factories.put(GridItem.CLASS_NAME, GridItemViewHolder.Factory.class);
+		factories.put(StandardGridItem.CLASS_NAME, StandardGridItemViewHolder.Factory.class);
+		factories.put(ImageGridItem.CLASS_NAME, ImageGridItemViewHolder.Factory.class);
+		factories.put(CollectionListItem.CLASS_NAME, CollectionListItemViewHolder.Factory.class);
+		factories.put(AppCollectionItem.CLASS_NAME, AppCollectionItemViewHolder.Factory.class);
 
-		return views;
+		return factories;
 	}
 }
@@ -0,0 +1,81 @@
+package com.cube.storm.ui.lib.helper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.cube.storm.UiSettings;
+import com.cube.storm.ui.lib.resolver.ViewResolver;
+import com.cube.storm.ui.view.holder.ViewHolderFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Process wide registry of {@link androidx.recyclerview.widget.RecyclerView} view types. Each {@link ViewHolderFactory}
+ * class is given an int view type the first time it is seen, and keeps it for the life of the process, so every adapter
+ * uses the same view type for the same holder and a shared {@link androidx.recyclerview.widget.RecyclerView.RecycledViewPool}
+ * can hand holders from one list to another.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class ViewTypeHelper
+{
+	/**
+	 * View type returned for models that have no view holder
+	 */
+	public static final int INVALID_TYPE = -1;
+
+	private static final Map<Class<? extends ViewHolderFactory>, Integer> viewTypes = new HashMap<>();
+	private static final ArrayList<Class<? extends ViewHolderFactory>> factoryClasses = new ArrayList<>();
+
+	/**
+	 * Gets the view type for a holder factory class, registering it if it has not been seen before
+	 *
+	 * @param factoryClass The holder factory class
+	 *
+	 * @return The view type
+	 */
+	public static synchronized int getViewType(@NonNull Class<? extends ViewHolderFactory> factoryClass)
+	{
+		Integer viewType = viewTypes.get(factoryClass);
+
+		if (viewType == null)
+		{
+			viewType = factoryClasses.size();
+			factoryClasses.add(factoryClass);
+			viewTypes.put(factoryClass, viewType);
+		}
+
+		return viewType;
+	}
+
+	/**
+	 * Gets the view type for a model class name, using {@link UiSettings#getViewResolvers()}
+	 *
+	 * @param className The class name of the model
+	 *
+	 * @return The view type, or {@link #INVALID_TYPE} if the model has no view holder
+	 */
+	public static int getViewType(@Nullable String className)
+	{
+		ViewResolver resolver = UiSettings.getInstance().getViewResolvers().get(className);
+		Class<? extends ViewHolderFactory> factoryClass = resolver == null ? null : resolver.resolveViewHolder();
+
+		return factoryClass == null ? INVALID_TYPE : getViewType(factoryClass);
+	}
+
+	/**
+	 * Gets the holder factory class for a view type
+	 *
+	 * @param viewType The view type, as returned by {@link #getViewType(Class)}
+	 *
+	 * @return The holder factory class
+	 */
+	@NonNull
+	public static synchronized Class<? extends ViewHolderFactory> getFactoryClass(int viewType)
+	{
+		return factoryClasses.get(viewType);
+	}
+}
@@ -0,0 +1,23 @@
+package com.cube.storm.ui.lib.parser;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class for which the {@code :processor} module should generate a reflection-free {@link ModelTypeAdapter}
+ * at compile time. The generated adapter is named {@code <Model>_TypeAdapter}, lives in the same package as the model and
+ * is registered through {@code GeneratedTypeAdapterFactory}.
+ * <p/>
+ * The model must extend {@link com.cube.storm.ui.model.Model}, must not be abstract and must have a no-args constructor.
+ * Models that don't meet these requirements are skipped with a warning and continue to be parsed reflectively.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateTypeAdapter
+{
+}
@@ -0,0 +1,185 @@
+package com.cube.storm.ui.lib.parser;
+
+import androidx.annotation.NonNull;
+
+import com.cube.storm.UiSettings;
+import com.cube.storm.ui.lib.resolver.ViewResolver;
+import com.cube.storm.ui.model.Model;
+import com.cube.storm.ui.model.descriptor.PageDescriptor;
+import com.cube.storm.ui.model.descriptor.TabbedPageDescriptor;
+import com.cube.storm.ui.model.grid.Grid;
+import com.cube.storm.ui.model.grid.GridItem;
+import com.cube.storm.ui.model.grid.ImageGridItem;
+import com.cube.storm.ui.model.grid.NativeGridItem;
+import com.cube.storm.ui.model.grid.StandardGridItem;
+import com.cube.storm.ui.model.list.AnimationListItem;
+import com.cube.storm.ui.model.list.ButtonListItem;
+import com.cube.storm.ui.model.list.CheckableListItem;
+import com.cube.storm.ui.model.list.DescriptionListItem;
+import com.cube.storm.ui.model.list.Divider;
+import com.cube.storm.ui.model.list.HeaderListItem;
+import com.cube.storm.ui.model.list.ImageListItem;
+import com.cube.storm.ui.model.list.List;
+import com.cube.storm.ui.model.list.ListItem;
+import com.cube.storm.ui.model.list.LogoListItem;
+import com.cube.storm.ui.model.list.NativeListItem;
+import com.cube.storm.ui.model.list.OrderedListItem;
+import com.cube.storm.ui.model.list.SpotlightListItem;
+import com.cube.storm.ui.model.list.StandardListItem;
+import com.cube.storm.ui.model.list.TextListItem;
+import com.cube.storm.ui.model.list.TitleListItem;
+import com.cube.storm.ui.model.list.ToggleableListItem;
+import com.cube.storm.ui.model.list.UnorderedListItem;
+import com.cube.storm.ui.model.list.VideoListItem;
+import com.cube.storm.ui.model.list.collection.AppCollectionItem;
+import com.cube.storm.ui.model.list.collection.CollectionItem;
+import com.cube.storm.ui.model.list.collection.CollectionListItem;
+import com.cube.storm.ui.model.list.collection.NativeCollectionItem;
+import com.cube.storm.ui.model.page.GridPage;
+import com.cube.storm.ui.model.page.ListPage;
+import com.cube.storm.ui.model.page.NativePage;
+import com.cube.storm.ui.model.page.Page;
+import com.cube.storm.ui.model.page.TabbedPageCollection;
+import com.cube.storm.ui.model.property.DestinationLinkProperty;
+import com.cube.storm.ui.model.property.ExternalLinkProperty;
+import com.cube.storm.ui.model.property.ImageProperty;
+import com.cube.storm.ui.model.property.InternalLinkProperty;
+import com.cube.storm.ui.model.property.LinkProperty;
+import com.cube.storm.ui.model.property.NativeLinkProperty;
+import com.cube.storm.ui.model.property.ShareLinkProperty;
+import com.cube.storm.ui.model.property.SmsLinkProperty;
+import com.cube.storm.ui.model.property.UriLinkProperty;
+import com.cube.storm.ui.model.property.VideoProperty;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The models and view processors registered by default. Nothing here depends on Android, so the parser benchmarks
+ * register exactly the same models and processors as {@link com.cube.storm.UiSettings.Builder}.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class ModelRegistration
+{
+	/**
+	 * Gets the model class of every supported class name. {@link com.cube.storm.ui.lib.helper.ViewHelper} pairs these with
+	 * their view holders.
+	 *
+	 * @return The map of class names to model classes
+	 */
+	@NonNull
+	public static Map<String, Class<? extends Model>> getModels()
+	{
+		Map<String, Class<? extends Model>> models = new LinkedHashMap<>();
+
+		/**
+		 * Private views - These are not driven by the CMS, these are internal classes derived from
+		 * the list model.
+		 */
+		models.put(List.ListHeader.CLASS_NAME, List.ListHeader.class);
+		models.put(List.ListFooter.CLASS_NAME, List.ListFooter.class);
+		models.put(Divider.CLASS_NAME, Divider.class);
+
+		/**
+		 * List items
+		 */
+		models.put(List.CLASS_NAME, List.class);
+		models.put(TextListItem.CLASS_NAME, TextListItem.class);
+		models.put(ImageListItem.CLASS_NAME, ImageListItem.class);
+		models.put(TitleListItem.CLASS_NAME, TitleListItem.class);
+		models.put(DescriptionListItem.CLASS_NAME, DescriptionListItem.class);
+		models.put(StandardListItem.CLASS_NAME, StandardListItem.class);
+		models.put(OrderedListItem.CLASS_NAME, OrderedListItem.class);
+		models.put(UnorderedListItem.CLASS_NAME, UnorderedListItem.class);
+		models.put(CheckableListItem.CLASS_NAME, CheckableListItem.class);
+		models.put(ButtonListItem.CLASS_NAME, ButtonListItem.class);
+		models.put(ToggleableListItem.CLASS_NAME, ToggleableListItem.class);
+		models.put(LogoListItem.CLASS_NAME, LogoListItem.class);
+		models.put(VideoListItem.CLASS_NAME, VideoListItem.class);
+		models.put(SpotlightListItem.CLASS_NAME, SpotlightListItem.class);
+		models.put(AnimationListItem.CLASS_NAME, AnimationListItem.class);
+		models.put(HeaderListItem.CLASS_NAME, HeaderListItem.class);
+		models.put(NativeListItem.CLASS_NAME, NativeListItem.class);
+
+		/**
+		 * Grid items
+		 */
+		models.put(Grid.CLASS_NAME, Grid.class);
+		models.put(GridItem.CLASS_NAME, GridItem.class);
+		models.put(StandardGridItem.CLASS_NAME, StandardGridItem.class);
+		models.put(ImageGridItem.CLASS_NAME, ImageGridItem.class);
+		models.put(NativeGridItem.CLASS_NAME, NativeGridItem.class);
+
+		/**
+		 * Collection cells
+		 */
+		models.put(CollectionListItem.CLASS_NAME, CollectionListItem.class);
+		models.put(AppCollectionItem.CLASS_NAME, AppCollectionItem.class);
+		models.put(NativeCollectionItem.CLASS_NAME, NativeCollectionItem.class);
+
+		/**
+		 * Pages
+		 */
+		models.put(ListPage.CLASS_NAME, ListPage.class);
+		models.put(GridPage.CLASS_NAME, GridPage.class);
+		models.put(TabbedPageCollection.CLASS_NAME, TabbedPageCollection.class);
+		models.put(NativePage.CLASS_NAME, NativePage.class);
+
+		/**
+		 * Descriptors
+		 */
+		models.put(PageDescriptor.CLASS_NAME, PageDescriptor.class);
+		models.put(TabbedPageDescriptor.CLASS_NAME, TabbedPageDescriptor.class);
+
+		/**
+		 * Properties
+		 */
+		models.put(ImageProperty.CLASS_NAME, ImageProperty.class);
+		models.put(VideoProperty.CLASS_NAME, VideoProperty.class);
+		models.put(DestinationLinkProperty.CLASS_NAME, DestinationLinkProperty.class);
+		models.put(InternalLinkProperty.CLASS_NAME, InternalLinkProperty.class);
+		models.put(ExternalLinkProperty.CLASS_NAME, ExternalLinkProperty.class);
+		models.put(UriLinkProperty.CLASS_NAME, UriLinkProperty.class);
+		models.put(ShareLinkProperty.CLASS_NAME, ShareLinkProperty.class);
+		models.put(SmsLinkProperty.CLASS_NAME, SmsLinkProperty.class);
+		models.put(NativeLinkProperty.CLASS_NAME, NativeLinkProperty.class);
+
+		return models;
+	}
+
+	/**
+	 * Gets the processors for the base model types, which resolve the model class from the class name with
+	 * {@link UiSettings#getViewResolvers()}
+	 *
+	 * @return The map of base types to their processor
+	 */
+	@NonNull
+	public static Map<Type, ViewProcessor> getViewProcessors()
+	{
+		ViewProcessor<? extends Model> baseProcessor = new ViewProcessor<Model>()
+		{
+			@Override public Class<? extends Model> getClassFromName(String name)
+			{
+				ViewResolver resolver = UiSettings.getInstance().getViewResolvers().get(name);
+
+				if (resolver != null)
+				{
+					return resolver.resolveModel();
+				}
+
+				return null;
+			}
+		};
+
+		Map<Type, ViewProcessor> processors = new LinkedHashMap<>();
+		processors.put(Page.class, baseProcessor);
+		processors.put(ListItem.class, baseProcessor);
+		processors.put(CollectionItem.class, baseProcessor);
+		processors.put(LinkProperty.class, baseProcessor);
+
+		return processors;
+	}
+}
@@ -0,0 +1,184 @@
+package com.cube.storm.ui.lib.parser;
+
+import androidx.annotation.NonNull;
+
+import com.cube.storm.ui.model.Model;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Base class for the type adapters generated for classes annotated with {@link GenerateTypeAdapter}. Subclasses
+ * instantiate the model with its constructor and bind each member with a {@code switch} on the member name, so no
+ * reflection is used when inflating the model.
+ * <p/>
+ * Member names follow Gson's default rules: the {@link com.google.gson.annotations.SerializedName} value and alternates
+ * if present, otherwise the field name. Unknown members are skipped.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public abstract class ModelTypeAdapter<T extends Model> extends TypeAdapter<T>
+{
+	/**
+	 * Creates a new, empty instance of the model
+	 *
+	 * @return The new model
+	 */
+	@NonNull
+	public abstract T newInstance();
+
+	/**
+	 * Reads the value of a single member into the model
+	 *
+	 * @param in The reader, positioned at the value of the member
+	 * @param name The name of the member
+	 * @param model The model to bind into
+	 *
+	 * @return True if the value was consumed, false if the member is unknown and the value still needs to be skipped
+	 */
+	public abstract boolean readField(@NonNull JsonReader in, @NonNull String name, @NonNull T model) throws IOException;
+
+	/**
+	 * Writes the members of the model to an object that has already been opened
+	 *
+	 * @param out The writer to write to
+	 * @param model The model to write
+	 */
+	public abstract void writeFields(@NonNull JsonWriter out, @NonNull T model) throws IOException;
+
+	@Override public T read(JsonReader in) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return null;
+		}
+
+		T model = newInstance();
+
+		in.beginObject();
+		readFields(in, model);
+		in.endObject();
+
+		return model;
+	}
+
+	/**
+	 * Reads the remaining members of an object that has already been opened. Does not consume the end of the object.
+	 *
+	 * @param in The reader to read from
+	 * @param model The model to bind into
+	 */
+	public void readFields(@NonNull JsonReader in, @NonNull T model) throws IOException
+	{
+		while (in.hasNext())
+		{
+			if (!readField(in, in.nextName(), model))
+			{
+				in.skipValue();
+			}
+		}
+	}
+
+	@Override public void write(JsonWriter out, T value) throws IOException
+	{
+		if (value == null)
+		{
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		writeFields(out, value);
+		out.endObject();
+	}
+
+	/**
+	 * Writes a value with the adapter of its runtime type, so the members of a subclass of the declared type are written
+	 * the same as with Gson's reflective adapter
+	 *
+	 * @param gson The gson instance to get the runtime type adapter from
+	 * @param declaredAdapter The adapter of the declared type
+	 * @param declaredType The declared type of the member
+	 * @param out The writer to write to
+	 * @param value The value to write
+	 */
+	@SuppressWarnings("unchecked")
+	protected static <V> void writeRuntimeType(@NonNull Gson gson, @NonNull TypeAdapter<V> declaredAdapter, @NonNull Class<V> declaredType, @NonNull JsonWriter out, @NonNull V value) throws IOException
+	{
+		if (value.getClass() == declaredType)
+		{
+			declaredAdapter.write(out, value);
+		}
+		else
+		{
+			((TypeAdapter<Object>)gson.getAdapter(value.getClass())).write(out, value);
+		}
+	}
+
+	protected static boolean readBoolean(@NonNull JsonReader in, boolean fallback) throws IOException
+	{
+		JsonToken token = in.peek();
+
+		if (token == JsonToken.NULL)
+		{
+			in.nextNull();
+			return fallback;
+		}
+		else if (token == JsonToken.STRING)
+		{
+			return Boolean.parseBoolean(in.nextString());
+		}
+
+		return in.nextBoolean();
+	}
+
+	protected static int readInt(@NonNull JsonReader in, int fallback) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return fallback;
+		}
+
+		return in.nextInt();
+	}
+
+	protected static long readLong(@NonNull JsonReader in, long fallback) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return fallback;
+		}
+
+		return in.nextLong();
+	}
+
+	protected static float readFloat(@NonNull JsonReader in, float fallback) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return fallback;
+		}
+
+		return (float)in.nextDouble();
+	}
+
+	protected static double readDouble(@NonNull JsonReader in, double fallback) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return fallback;
+		}
+
+		return in.nextDouble();
+	}
+}
@@ -0,0 +1,97 @@
+package com.cube.storm.ui.lib.parser;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.cube.storm.ui.model.Model;
+import com.cube.storm.ui.model.property.DestinationLinkProperty;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Type adapter factory that reads the {@code "class"} discriminator of every model, and the destination of every
+ * {@link DestinationLinkProperty}, through a {@link StringPool}. Only models with a generated {@link ModelTypeAdapter}
+ * are pooled, every other string is read with Gson's own string adapter.
+ * <p/>
+ * Must be registered after {@link GeneratedTypeAdapterFactory} so it can wrap the generated adapters.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class PooledModelTypeAdapterFactory implements TypeAdapterFactory
+{
+	protected final StringPool stringPool;
+
+	public PooledModelTypeAdapterFactory(@NonNull StringPool stringPool)
+	{
+		this.stringPool = stringPool;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	@Override public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+	{
+		if (!Model.class.isAssignableFrom(type.getRawType()))
+		{
+			return null;
+		}
+
+		TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+
+		if (!(delegate instanceof ModelTypeAdapter))
+		{
+			return null;
+		}
+
+		return (TypeAdapter<T>)new PooledModelTypeAdapter<>((ModelTypeAdapter<Model>)delegate);
+	}
+
+	/**
+	 * Generated adapter that pools the class name and link destination of the model once its members are read. Extends
+	 * {@link ModelTypeAdapter} so {@link ViewTypeAdapterFactory} still binds the model without a json tree.
+	 */
+	private class PooledModelTypeAdapter<T extends Model> extends ModelTypeAdapter<T>
+	{
+		private final ModelTypeAdapter<T> delegate;
+
+		public PooledModelTypeAdapter(ModelTypeAdapter<T> delegate)
+		{
+			this.delegate = delegate;
+		}
+
+		@NonNull
+		@Override public T newInstance()
+		{
+			return delegate.newInstance();
+		}
+
+		@Override public boolean readField(@NonNull JsonReader in, @NonNull String name, @NonNull T model) throws IOException
+		{
+			return delegate.readField(in, name, model);
+		}
+
+		@Override public void readFields(@NonNull JsonReader in, @NonNull T model) throws IOException
+		{
+			delegate.readFields(in, model);
+
+			model.setClassName(stringPool.intern(model.getClassName()));
+
+			if (model instanceof DestinationLinkProperty)
+			{
+				DestinationLinkProperty link = (DestinationLinkProperty)model;
+				link.setDestination(stringPool.intern(link.getDestination()));
+			}
+		}
+
+		@Override public void writeFields(@NonNull JsonWriter out, @NonNull T model) throws IOException
+		{
+			delegate.writeFields(out, model);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.cube.storm.ui.lib.parser;
+
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Bounded pool of the short strings that repeat across parsed models, the class names and link destinations, so every
+ * model that uses the same string shares one instance instead of keeping its own copy. Strings longer than
+ * {@link #MAX_LENGTH} are never pooled, and the least recently used strings are dropped once the pool is full.
+ * <p/>
+ * Strings are read through the pool by {@link PooledModelTypeAdapterFactory} and {@link ViewTypeAdapterFactory}
+ * <p/>
+ * Enable with {@link com.cube.storm.UiSettings.Builder#stringPoolSize(int)}
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class StringPool
+{
+	/**
+	 * Maximum length of the strings kept in the pool
+	 */
+	public static final int MAX_LENGTH = 128;
+
+	private final LruCache<String, String> pool;
+	private long duplicateCount = 0;
+	private long savedBytes = 0;
+
+	/**
+	 * @param maxSize The maximum number of strings kept in the pool
+	 */
+	public StringPool(int maxSize)
+	{
+		pool = new LruCache<>(maxSize);
+	}
+
+	/**
+	 * Gets the pooled instance of a string, adding it to the pool if it is not already in it
+	 *
+	 * @param value The string
+	 *
+	 * @return The pooled string, or the string itself if it is too long to pool
+	 */
+	@Nullable
+	public String intern(@Nullable String value)
+	{
+		if (value == null || value.length() > MAX_LENGTH)
+		{
+			return value;
+		}
+
+		synchronized (this)
+		{
+			String pooled = pool.get(value);
+
+			if (pooled == value)
+			{
+				return pooled;
+			}
+			else if (pooled != null)
+			{
+				duplicateCount++;
+				savedBytes += getSize(value);
+				return pooled;
+			}
+
+			pool.put(value, value);
+			return value;
+		}
+	}
+
+	/**
+	 * Estimates the retained size of a string, the string object plus its character array
+	 *
+	 * @param value The string
+	 *
+	 * @return The size in bytes
+	 */
+	public static long getSize(@NonNull String value)
+	{
+		long array = align(16 + 2L * value.length());
+		return 24 + array;
+	}
+
+	private static long align(long size)
+	{
+		return (size + 7) & ~7L;
+	}
+
+	/**
+	 * @return The number of strings in the pool
+	 */
+	public synchronized int size()
+	{
+		return pool.size();
+	}
+
+	/**
+	 * @return The number of duplicate strings that were replaced with a pooled instance
+	 */
+	public synchronized long getDuplicateCount()
+	{
+		return duplicateCount;
+	}
+
+	/**
+	 * @return The estimated number of bytes saved by replacing duplicate strings with a pooled instance
+	 */
+	public synchronized long getSavedBytes()
+	{
+		return savedBytes;
+	}
+
+	/**
+	 * Gets a summary of the memory saved by the pool, for logging
+	 *
+	 * @return The memory report
+	 */
+	@NonNull
+	public synchronized String getMemoryReport()
+	{
+		return String.format(Locale.US, "String pool: %d strings pooled, %d duplicates replaced, ~%d bytes saved", pool.size(), duplicateCount, savedBytes);
+	}
+
+	/**
+	 * Removes all strings from the pool and resets its counters
+	 */
+	public synchronized void clear()
+	{
+		pool.evictAll();
+		duplicateCount = 0;
+		savedBytes = 0;
+	}
+}
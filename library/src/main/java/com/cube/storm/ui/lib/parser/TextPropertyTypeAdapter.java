@@ -0,0 +1,210 @@
+package com.cube.storm.ui.lib.parser;
+
+import com.cube.storm.UiSettings;
+import com.cube.storm.ui.data.LanguageMap;
+import com.cube.storm.ui.lib.helper.LocaleHelper;
+import com.cube.storm.ui.model.property.TextProperty;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming type adapter for {@link TextProperty}. The {@code "content"} member is either a plain string, which is stored
+ * against the language of the default locale, or an object of language codes to strings. Language codes are shared
+ * between every text property, and when {@link UiSettings#isPruneLanguages()} is set the languages that are not in
+ * {@link LocaleHelper#getLanguages()} are skipped without being read.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class TextPropertyTypeAdapter extends TypeAdapter<TextProperty>
+{
+	/**
+	 * Maximum number of distinct language codes kept
+	 */
+	private static final int MAX_LANGUAGES = 256;
+
+	private static final ConcurrentHashMap<String, String> languages = new ConcurrentHashMap<>();
+
+	@Override public TextProperty read(JsonReader in) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return null;
+		}
+
+		TextProperty text = new TextProperty();
+		in.beginObject();
+
+		while (in.hasNext())
+		{
+			String name = in.nextName();
+
+			if ("content".equals(name))
+			{
+				text.setContent(readContent(in));
+			}
+			else if ("id".equals(name) && in.peek() != JsonToken.NULL)
+			{
+				text.setId(in.nextString());
+			}
+			else
+			{
+				in.skipValue();
+			}
+		}
+
+		in.endObject();
+		return text;
+	}
+
+	private Map<String, String> readContent(JsonReader in) throws IOException
+	{
+		boolean prune = UiSettings.getInstance().isPruneLanguages();
+		JsonToken token = in.peek();
+
+		if (token == JsonToken.NULL)
+		{
+			in.nextNull();
+			return null;
+		}
+		else if (token != JsonToken.BEGIN_OBJECT)
+		{
+			Map<String, String> content = prune ? new LanguageMap(1) : new HashMap<String, String>(2);
+			content.put(getLanguage(Locale.getDefault().getLanguage()), readString(in));
+			return content;
+		}
+
+		String[] keep = prune ? LocaleHelper.getLanguages() : null;
+		Map<String, String> content = prune ? new LanguageMap(keep.length) : new HashMap<String, String>();
+		in.beginObject();
+
+		while (in.hasNext())
+		{
+			String language = in.nextName();
+
+			if (keep != null && !contains(keep, language))
+			{
+				in.skipValue();
+				continue;
+			}
+
+			content.put(getLanguage(language), readString(in));
+		}
+
+		in.endObject();
+
+		if (content instanceof LanguageMap)
+		{
+			((LanguageMap)content).trimToSize();
+		}
+
+		return content;
+	}
+
+	private static String readString(JsonReader in) throws IOException
+	{
+		switch (in.peek())
+		{
+			case NULL:
+			{
+				in.nextNull();
+				return null;
+			}
+
+			case BOOLEAN:
+			{
+				return String.valueOf(in.nextBoolean());
+			}
+
+			case STRING:
+			case NUMBER:
+			{
+				return in.nextString();
+			}
+
+			default:
+			{
+				in.skipValue();
+				return null;
+			}
+		}
+	}
+
+	private static boolean contains(String[] values, String value)
+	{
+		for (String item : values)
+		{
+			if (item.equals(value))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Gets the shared instance of a language code
+	 */
+	private static String getLanguage(String language)
+	{
+		String shared = languages.get(language);
+
+		if (shared == null)
+		{
+			if (languages.size() >= MAX_LANGUAGES)
+			{
+				return language;
+			}
+
+			shared = languages.putIfAbsent(language, language);
+
+			if (shared == null)
+			{
+				shared = language;
+			}
+		}
+
+		return shared;
+	}
+
+	@Override public void write(JsonWriter out, TextProperty value) throws IOException
+	{
+		if (value == null)
+		{
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("class").value(value.getClassName());
+
+		if (value.getId() != null)
+		{
+			out.name("id").value(value.getId());
+		}
+
+		if (value.getContent() != null)
+		{
+			out.name("content").beginObject();
+
+			for (Map.Entry<String, String> entry : value.getContent().entrySet())
+			{
+				out.name(entry.getKey()).value(entry.getValue());
+			}
+
+			out.endObject();
+		}
+
+		out.endObject();
+	}
+}
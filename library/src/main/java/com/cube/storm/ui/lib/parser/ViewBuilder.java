@@ -1,29 +1,30 @@
 package com.cube.storm.ui.lib.parser;
 
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.cube.storm.UiSettings;
+import com.cube.storm.ui.lib.helper.LocaleHelper;
 import com.cube.storm.ui.model.App;
+import com.cube.storm.ui.model.Model;
 import com.cube.storm.ui.model.descriptor.TabbedPageDescriptor;
 import com.cube.storm.ui.model.page.Page;
 import com.cube.storm.ui.model.page.TabbedPageCollection;
 import com.cube.storm.ui.model.property.TextProperty;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
 
 import java.io.BufferedInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Type;
-import java.util.HashMap;
-import java.util.Locale;
+import java.util.concurrent.Callable;
 
 /**
  * View parser used to process the json files into models to be used with the list/grid adapters
@@ -33,16 +34,220 @@ import java.util.Locale;
  */
 public abstract class ViewBuilder
 {
+	/**
+	 * Callback for the asynchronous build methods, such as {@link #buildPageAsync(Uri, OnBuildListener)}
+	 */
+	public interface OnBuildListener<T>
+	{
+		/**
+		 * Called on the main thread once the build has finished
+		 *
+		 * @param result The built object, or null if it could not be loaded or parsed
+		 */
+		public void onBuilt(@Nullable T result);
+	}
+
 	private static Gson viewGson;
 	private static GsonBuilder viewBuilder;
+	private static StringPool stringPool;
+
+	/**
+	 * Handler used to deliver the results of asynchronous builds
+	 */
+	private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+	/**
+	 * Cache of built pages keyed by page uri and app vector, created on first use. See {@link UiSettings#getPageCacheSize()}
+	 */
+	private LruCache<String, Model> pageCache;
+
+	/**
+	 * Number of page cache lookups that were hits and misses, counted here rather than by the cache so a lookup that is
+	 * retried on the background thread is only counted once
+	 */
+	private int pageCacheHits = 0;
+	private int pageCacheMisses = 0;
 
 	/**
 	 * Required to include view overrides
 	 */
 	public void rebuild()
 	{
-		viewBuilder = null;
+		synchronized (ViewBuilder.class)
+		{
+			viewBuilder = null;
+			viewGson = null;
+			stringPool = null;
+		}
+
 		getGson();
+		clearPageCache();
+	}
+
+	/**
+	 * Gets the page cache, resizing it to match {@link UiSettings#getPageCacheSize()}
+	 *
+	 * @return The page cache, or null if page caching is disabled
+	 */
+	@Nullable
+	protected synchronized LruCache<String, Model> getPageCache()
+	{
+		int size = UiSettings.getInstance().getPageCacheSize();
+
+		if (size <= 0)
+		{
+			pageCache = null;
+		}
+		else if (pageCache == null)
+		{
+			pageCache = new LruCache<>(size);
+		}
+		else if (pageCache.maxSize() != size)
+		{
+			pageCache.resize(size);
+		}
+
+		return pageCache;
+	}
+
+	/**
+	 * Creates the cache key for a page uri. The key includes the vector of the current {@link App} so content from a
+	 * previous app is never returned, and the language generation when {@link UiSettings#isPruneLanguages()} is set.
+	 *
+	 * @param fileUri The page uri
+	 *
+	 * @return The cache key
+	 */
+	@NonNull
+	protected String getPageCacheKey(@NonNull Uri fileUri)
+	{
+		App app = UiSettings.getInstance().getApp();
+		String key = fileUri.toString() + "@" + (app == null ? "" : app.getVector());
+
+		// Pages parsed with pruned languages are only valid for the language they were parsed for
+		if (UiSettings.getInstance().isPruneLanguages())
+		{
+			key += "#" + LocaleHelper.getGeneration();
+		}
+
+		return key;
+	}
+
+	/**
+	 * Gets a page from the page cache
+	 *
+	 * @param fileUri The page uri
+	 * @param outClass The expected class of the page
+	 *
+	 * @return The cached page, or null if caching is disabled or the page has not been built
+	 */
+	@Nullable
+	protected <T extends Model> T getCachedPage(@NonNull Uri fileUri, @NonNull Class<T> outClass)
+	{
+		return getCachedPage(fileUri, outClass, true);
+	}
+
+	/**
+	 * Gets a page from the page cache
+	 *
+	 * @param fileUri The page uri
+	 * @param outClass The expected class of the page
+	 * @param countMiss False if the page will be looked up again on a miss, so the miss is only counted once
+	 *
+	 * @return The cached page, or null if caching is disabled or the page has not been built
+	 */
+	@Nullable
+	protected <T extends Model> T getCachedPage(@NonNull Uri fileUri, @NonNull Class<T> outClass, boolean countMiss)
+	{
+		LruCache<String, Model> cache = getPageCache();
+
+		if (cache != null)
+		{
+			Model page = cache.get(getPageCacheKey(fileUri));
+
+			if (outClass.isInstance(page))
+			{
+				synchronized (this)
+				{
+					pageCacheHits++;
+				}
+
+				return outClass.cast(page);
+			}
+
+			if (countMiss)
+			{
+				synchronized (this)
+				{
+					pageCacheMisses++;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Adds a built page to the page cache
+	 *
+	 * @param fileUri The page uri
+	 * @param page The built page
+	 */
+	protected void cachePage(@NonNull Uri fileUri, @NonNull Model page)
+	{
+		LruCache<String, Model> cache = getPageCache();
+
+		if (cache != null)
+		{
+			cache.put(getPageCacheKey(fileUri), page);
+		}
+	}
+
+	/**
+	 * Removes all pages from the page cache. Call this when the content on disk changes.
+	 */
+	public synchronized void clearPageCache()
+	{
+		if (pageCache != null)
+		{
+			pageCache.evictAll();
+		}
+	}
+
+	/**
+	 * @return The number of page builds that were served from the page cache
+	 */
+	public synchronized int getPageCacheHitCount()
+	{
+		return pageCacheHits;
+	}
+
+	/**
+	 * @return The number of page builds that were not in the page cache and had to be loaded and parsed
+	 */
+	public synchronized int getPageCacheMissCount()
+	{
+		return pageCacheMisses;
+	}
+
+	/**
+	 * Gets the pool that short strings are read through while parsing, created on first use with
+	 * {@link UiSettings#getStringPoolSize()}. Use {@link StringPool#getMemoryReport()} to see how much memory it saved.
+	 *
+	 * @return The string pool, or null if string pooling is disabled
+	 */
+	@Nullable
+	public StringPool getStringPool()
+	{
+		synchronized (ViewBuilder.class)
+		{
+			if (stringPool == null && UiSettings.getInstance().getStringPoolSize() > 0)
+			{
+				stringPool = new StringPool(UiSettings.getInstance().getStringPoolSize());
+			}
+
+			return stringPool;
+		}
 	}
 
 	/**
@@ -54,30 +259,30 @@ public abstract class ViewBuilder
 	{
 		GsonBuilder builder = new GsonBuilder();
 
+		// Registered first so any processor or adapter registered after it takes priority
+		builder.registerTypeAdapterFactory(new GeneratedTypeAdapterFactory());
+
 		for (Type instanceClass : UiSettings.getInstance().getViewProcessors().keySet())
 		{
 			builder.registerTypeAdapter(instanceClass, UiSettings.getInstance().getViewProcessors().get(instanceClass));
 		}
 
-		builder.registerTypeAdapter(TextProperty.class, new JsonDeserializer<TextProperty>()
+		builder.registerTypeAdapter(TextProperty.class, new TextPropertyTypeAdapter());
+
+		StringPool pool = getStringPool();
+
+		if (pool != null)
 		{
-			@Override public TextProperty deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException
-			{
-				JsonElement content = json.getAsJsonObject().get("content");
-				if (content.isJsonPrimitive())
-				{
-					TextProperty text = new TextProperty();
-					text.setContent(new HashMap<String, String>());
-					text.getContent().put(Locale.getDefault().getLanguage(), content.getAsString());
+			// Registered after the generated adapters it wraps. Only class names and link destinations are pooled, language
+			// codes are already shared by the text adapter and every other string is left to Gson
+			builder.registerTypeAdapterFactory(new PooledModelTypeAdapterFactory(pool));
+		}
 
-					return text;
-				}
-				else
-				{
-					return new Gson().fromJson(json, TextProperty.class);
-				}
-			}
-		});
+		if (UiSettings.getInstance().isStreamingParse())
+		{
+			// Registered last so it takes priority over the tree based processors it delegates to
+			builder.registerTypeAdapterFactory(new ViewTypeAdapterFactory(UiSettings.getInstance().getViewProcessors(), pool));
+		}
 
 		return builder;
 	}
@@ -90,13 +295,51 @@ public abstract class ViewBuilder
 	 */
 	private Gson getGson()
 	{
-		if (viewGson == null)
+		synchronized (ViewBuilder.class)
 		{
-			GsonBuilder builder = getGsonBuilder();
-			viewGson = builder.create();
+			if (viewGson == null)
+			{
+				GsonBuilder builder = getGsonBuilder();
+				viewGson = builder.create();
+			}
+
+			return viewGson;
 		}
+	}
+
+	/**
+	 * Runs a build on {@link UiSettings#getBackgroundExecutor()} and delivers the result to the listener on the main thread
+	 *
+	 * @param build The build to run
+	 * @param listener The listener to deliver the result to
+	 */
+	protected <T> void buildAsync(@NonNull final Callable<T> build, @NonNull final OnBuildListener<T> listener)
+	{
+		UiSettings.getInstance().getBackgroundExecutor().execute(new Runnable()
+		{
+			@Override public void run()
+			{
+				T result = null;
+
+				try
+				{
+					result = build.call();
+				}
+				catch (Exception e)
+				{
+					e.printStackTrace();
+				}
 
-		return viewGson;
+				final T built = result;
+				mainHandler.post(new Runnable()
+				{
+					@Override public void run()
+					{
+						listener.onBuilt(built);
+					}
+				});
+			}
+		});
 	}
 
 	/**
@@ -142,7 +385,8 @@ public abstract class ViewBuilder
 	}
 
 	/**
-	 * Builds a Page object from a file Uri
+	 * Builds a Page object from a file Uri. Pages are served from the page cache when it is enabled with
+	 * {@link UiSettings.Builder#pageCacheSize(int)}.
 	 *
 	 * @param fileUri The file Uri to load from
 	 *
@@ -151,16 +395,58 @@ public abstract class ViewBuilder
 	@Nullable
 	public Page buildPage(@NonNull Uri fileUri)
 	{
+		Page page = getCachedPage(fileUri, Page.class);
+
+		if (page != null)
+		{
+			return page;
+		}
+
 		InputStream pageData = UiSettings.getInstance().getFileFactory().loadFromUri(fileUri);
 
 		if (pageData != null)
 		{
-			return build(pageData, Page.class);
+			page = build(pageData, Page.class);
+
+			if (page != null)
+			{
+				cachePage(fileUri, page);
+			}
+
+			return page;
 		}
 
 		return null;
 	}
 
+	/**
+	 * Builds a Page object from a file Uri without blocking the calling thread. The file is loaded and parsed on
+	 * {@link UiSettings#getBackgroundExecutor()} with {@link #buildPage(Uri)}. If the page is in the page cache the listener
+	 * is called straight away.
+	 *
+	 * @param fileUri The file Uri to load from
+	 * @param listener The listener called on the main thread with the page data, or null
+	 */
+	public void buildPageAsync(@NonNull final Uri fileUri, @NonNull OnBuildListener<Page> listener)
+	{
+		// A miss is counted by buildPage when it checks the cache again on the background thread
+		Page cached = getCachedPage(fileUri, Page.class, false);
+
+		if (cached != null)
+		{
+			listener.onBuilt(cached);
+			return;
+		}
+
+		buildAsync(new Callable<Page>()
+		{
+			@Override public Page call() throws Exception
+			{
+				return buildPage(fileUri);
+			}
+		}, listener);
+	}
+
 	/**
 	 * Builds a page object from a byte array json string
 	 *
@@ -210,7 +496,8 @@ public abstract class ViewBuilder
 	}
 
 	/**
-	 * Builds a Page object from a file Uri
+	 * Builds a Page object from a file Uri. Pages are served from the page cache when it is enabled with
+	 * {@link UiSettings.Builder#pageCacheSize(int)}.
 	 *
 	 * @param fileUri The file Uri to load from
 	 *
@@ -219,6 +506,13 @@ public abstract class ViewBuilder
 	@Nullable
 	public TabbedPageCollection buildTabbedPage(@NonNull Uri fileUri)
 	{
+		TabbedPageCollection cached = getCachedPage(fileUri, TabbedPageCollection.class);
+
+		if (cached != null)
+		{
+			return cached;
+		}
+
 		InputStream pageData = UiSettings.getInstance().getFileFactory().loadFromUri(fileUri);
 
 		if (pageData != null)
@@ -235,12 +529,45 @@ public abstract class ViewBuilder
 				}
 			}
 
+			if (tabbedPageCollection != null)
+			{
+				cachePage(fileUri, tabbedPageCollection);
+			}
+
 			return tabbedPageCollection;
 		}
 
 		return null;
 	}
 
+	/**
+	 * Builds a TabbedPageCollection object from a file Uri without blocking the calling thread. The file is loaded and
+	 * parsed on {@link UiSettings#getBackgroundExecutor()} with {@link #buildTabbedPage(Uri)}. If the page is in the page
+	 * cache the listener is called straight away.
+	 *
+	 * @param fileUri The file Uri to load from
+	 * @param listener The listener called on the main thread with the page data, or null
+	 */
+	public void buildTabbedPageAsync(@NonNull final Uri fileUri, @NonNull OnBuildListener<TabbedPageCollection> listener)
+	{
+		// A miss is counted by buildTabbedPage when it checks the cache again on the background thread
+		TabbedPageCollection cached = getCachedPage(fileUri, TabbedPageCollection.class, false);
+
+		if (cached != null)
+		{
+			listener.onBuilt(cached);
+			return;
+		}
+
+		buildAsync(new Callable<TabbedPageCollection>()
+		{
+			@Override public TabbedPageCollection call() throws Exception
+			{
+				return buildTabbedPage(fileUri);
+			}
+		}, listener);
+	}
+
 	/**
 	 * Builds a page object from a byte array json string
 	 *
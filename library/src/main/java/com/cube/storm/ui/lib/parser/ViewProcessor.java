@@ -18,6 +18,11 @@ import java.lang.reflect.Type;
  */
 public abstract class ViewProcessor<T> extends GsonProcessor<T>
 {
+	/**
+	 * Cached result of {@link #isStreamable()}
+	 */
+	private Boolean streamable;
+
 	/**
 	 * Method called when resolving what class to inflate for the json element. Use this method to override
 	 * what class is used when inflating.
@@ -29,6 +34,34 @@ public abstract class ViewProcessor<T> extends GsonProcessor<T>
 	@Nullable
 	public abstract Class<? extends T> getClassFromName(String name);
 
+	/**
+	 * Whether this processor can be driven straight from a {@link com.google.gson.stream.JsonReader} by
+	 * {@link ViewTypeAdapterFactory}. Processors that override {@link #preInflate(JsonElement)} or
+	 * {@link #deserialize(JsonElement, Type, JsonDeserializationContext)} need the json tree, so they are left to Gson's
+	 * tree adapter. Override this method to force either behaviour.
+	 *
+	 * @return True if the processor only resolves classes and post-processes models
+	 */
+	public boolean isStreamable()
+	{
+		if (streamable == null)
+		{
+			try
+			{
+				Class<?> preInflate = getClass().getMethod("preInflate", JsonElement.class).getDeclaringClass();
+				Class<?> deserialize = getClass().getMethod("deserialize", JsonElement.class, Type.class, JsonDeserializationContext.class).getDeclaringClass();
+
+				streamable = preInflate.isAssignableFrom(ViewProcessor.class) && deserialize == ViewProcessor.class;
+			}
+			catch (NoSuchMethodException e)
+			{
+				streamable = false;
+			}
+		}
+
+		return streamable;
+	}
+
 	@Nullable
 	@Override public T deserialize(JsonElement arg0, Type arg1, JsonDeserializationContext arg2) throws JsonParseException
 	{
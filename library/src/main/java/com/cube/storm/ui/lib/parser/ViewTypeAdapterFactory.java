@@ -0,0 +1,418 @@
+package com.cube.storm.ui.lib.parser;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.cube.storm.ui.model.Model;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.internal.bind.JsonTreeReader;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming type adapter factory for the polymorphic types registered in {@link com.cube.storm.UiSettings#getViewProcessors()}.
+ * <p/>
+ * Rather than building a {@link JsonElement} tree for every page, list item, collection item and link, and then binding
+ * that tree a second time in {@link ViewProcessor#deserialize(JsonElement, Type, com.google.gson.JsonDeserializationContext)},
+ * the adapters created by this factory read the {@code "class"} discriminator straight from the {@link JsonReader} and
+ * bind the rest of the object directly into the model class returned by {@link ViewProcessor#getClassFromName(String)}.
+ * <p/>
+ * Any members that appear before the {@code "class"} member are buffered and replayed into the model once the model
+ * class is known, so content that declares its class first is parsed without any intermediate tree. {@link ViewProcessor#postInflate(Object)}
+ * is called on every model as before. Models with a generated {@link ModelTypeAdapter} are bound by that adapter, other
+ * models are bound reflectively. Processors that are not {@link ViewProcessor#isStreamable() streamable} are
+ * skipped by this factory and continue to receive the json tree.
+ * <p/>
+ * Enable with {@link com.cube.storm.UiSettings.Builder#streamingParse(boolean)}
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class ViewTypeAdapterFactory implements TypeAdapterFactory
+{
+	protected final Map<Type, ViewProcessor> processors;
+
+	/**
+	 * Pool the class names are read through, or null if they are not pooled
+	 */
+	@Nullable protected final StringPool stringPool;
+
+	/**
+	 * Binders for the resolved model classes, created on first use
+	 */
+	private final ConcurrentHashMap<Class<?>, ModelBinder> binders = new ConcurrentHashMap<>();
+
+	public ViewTypeAdapterFactory(@NonNull Map<Type, ViewProcessor> processors)
+	{
+		this(processors, null);
+	}
+
+	public ViewTypeAdapterFactory(@NonNull Map<Type, ViewProcessor> processors, @Nullable StringPool stringPool)
+	{
+		this.processors = processors;
+		this.stringPool = stringPool;
+	}
+
+	@Nullable
+	@Override public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+	{
+		ViewProcessor processor = processors.get(type.getType());
+
+		if (processor == null || !processor.isStreamable())
+		{
+			return null;
+		}
+
+		return new ViewTypeAdapter<T>(gson, processor, gson.getDelegateAdapter(this, type));
+	}
+
+	/**
+	 * Gets the binder for a resolved model class
+	 *
+	 * @param gson The gson instance to get the field adapters from
+	 * @param modelClass The model class to bind into
+	 *
+	 * @return The binder, or null if the class can not be instantiated without Gson's help
+	 */
+	@Nullable
+	protected ModelBinder getBinder(@NonNull Gson gson, @NonNull Class<?> modelClass)
+	{
+		ModelBinder binder = binders.get(modelClass);
+
+		if (binder == null)
+		{
+			binder = ModelBinder.create(gson, modelClass);
+
+			if (binder == null)
+			{
+				return null;
+			}
+
+			ModelBinder existing = binders.putIfAbsent(modelClass, binder);
+			if (existing != null)
+			{
+				binder = existing;
+			}
+		}
+
+		return binder;
+	}
+
+	private class ViewTypeAdapter<T> extends TypeAdapter<T>
+	{
+		private final Gson gson;
+		private final ViewProcessor processor;
+		private final TypeAdapter<T> treeAdapter;
+		private final TypeAdapter<JsonElement> elementAdapter;
+
+		public ViewTypeAdapter(Gson gson, ViewProcessor processor, TypeAdapter<T> treeAdapter)
+		{
+			this.gson = gson;
+			this.processor = processor;
+			this.treeAdapter = treeAdapter;
+			this.elementAdapter = gson.getAdapter(JsonElement.class);
+		}
+
+		@Override public void write(JsonWriter out, T value) throws IOException
+		{
+			treeAdapter.write(out, value);
+		}
+
+		@Override public T read(JsonReader in) throws IOException
+		{
+			JsonToken token = in.peek();
+
+			if (token == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+			else if (token != JsonToken.BEGIN_OBJECT)
+			{
+				return treeAdapter.read(in);
+			}
+
+			in.beginObject();
+
+			JsonObject buffered = null;
+			String className = null;
+
+			while (in.hasNext())
+			{
+				String name = in.nextName();
+
+				if ("class".equals(name) && in.peek() == JsonToken.STRING)
+				{
+					className = stringPool == null ? in.nextString() : stringPool.intern(in.nextString());
+					break;
+				}
+
+				if (buffered == null)
+				{
+					buffered = new JsonObject();
+				}
+
+				buffered.add(name, elementAdapter.read(in));
+			}
+
+			if (className == null)
+			{
+				throw new JsonParseException("Missing class name for " + in.getPath());
+			}
+
+			Class<?> modelClass = processor.getClassFromName(className);
+
+			if (modelClass == null)
+			{
+				while (in.hasNext())
+				{
+					in.nextName();
+					in.skipValue();
+				}
+
+				in.endObject();
+				return null;
+			}
+
+			Object model;
+			TypeAdapter<?> modelAdapter = gson.getAdapter(modelClass);
+			ModelBinder binder;
+
+			if (modelAdapter instanceof ModelTypeAdapter)
+			{
+				model = readModel((ModelTypeAdapter)modelAdapter, in, className, buffered);
+			}
+			else if ((binder = getBinder(gson, modelClass)) != null)
+			{
+				model = binder.read(in, className, buffered);
+			}
+			else
+			{
+				// Class can't be instantiated by the binder, fall back to a tree for this object only
+				JsonObject tree = buffered == null ? new JsonObject() : buffered;
+				tree.addProperty("class", className);
+
+				while (in.hasNext())
+				{
+					String name = in.nextName();
+					tree.add(name, elementAdapter.read(in));
+				}
+
+				in.endObject();
+				model = gson.fromJson(tree, modelClass);
+			}
+
+			return (T)processor.postInflate(model);
+		}
+
+		private <M extends Model> M readModel(ModelTypeAdapter<M> adapter, JsonReader in, String className, @Nullable JsonObject buffered) throws IOException
+		{
+			M model = adapter.newInstance();
+			model.setClassName(className);
+
+			if (buffered != null)
+			{
+				// Replay the members that came before the class member through the same generated adapter
+				JsonTreeReader bufferedReader = new JsonTreeReader(buffered);
+				bufferedReader.beginObject();
+				adapter.readFields(bufferedReader, model);
+				bufferedReader.endObject();
+			}
+
+			adapter.readFields(in, model);
+			in.endObject();
+
+			return model;
+		}
+	}
+
+	/**
+	 * Binds json members directly into the fields of a model class, matching the rules used by Gson's reflective adapter
+	 */
+	protected static class ModelBinder
+	{
+		private final Constructor<?> constructor;
+		private final Map<String, BoundField> fields;
+		private final BoundField classField;
+
+		private ModelBinder(Constructor<?> constructor, Map<String, BoundField> fields)
+		{
+			this.constructor = constructor;
+			this.fields = fields;
+			this.classField = fields.get("class");
+		}
+
+		@Nullable
+		public static ModelBinder create(@NonNull Gson gson, @NonNull Class<?> modelClass)
+		{
+			if (Modifier.isAbstract(modelClass.getModifiers()) || (modelClass.isMemberClass() && !Modifier.isStatic(modelClass.getModifiers())))
+			{
+				return null;
+			}
+
+			Constructor<?> constructor;
+
+			try
+			{
+				constructor = modelClass.getDeclaredConstructor();
+				constructor.setAccessible(true);
+			}
+			catch (Exception e)
+			{
+				return null;
+			}
+
+			Map<String, BoundField> fields = new HashMap<>();
+
+			for (Class<?> type = modelClass; type != null && type != Object.class; type = type.getSuperclass())
+			{
+				for (Field field : type.getDeclaredFields())
+				{
+					int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic())
+					{
+						continue;
+					}
+
+					field.setAccessible(true);
+
+					BoundField boundField = new BoundField(field, gson.getAdapter(TypeToken.get(field.getGenericType())));
+					SerializedName serializedName = field.getAnnotation(SerializedName.class);
+
+					if (serializedName != null)
+					{
+						putIfAbsent(fields, serializedName.value(), boundField);
+
+						for (String alternate : serializedName.alternate())
+						{
+							putIfAbsent(fields, alternate, boundField);
+						}
+					}
+					else
+					{
+						putIfAbsent(fields, gson.fieldNamingStrategy().translateName(field), boundField);
+					}
+				}
+			}
+
+			return new ModelBinder(constructor, fields);
+		}
+
+		/**
+		 * Subclass fields shadow super class fields of the same name
+		 */
+		private static void putIfAbsent(Map<String, BoundField> fields, String name, BoundField field)
+		{
+			if (!fields.containsKey(name))
+			{
+				fields.put(name, field);
+			}
+		}
+
+		/**
+		 * Reads the remainder of an object whose {@code "class"} member has already been consumed
+		 *
+		 * @param in The reader, positioned after the class member
+		 * @param className The class name read from the json
+		 * @param buffered Any members that appeared before the class member, or null
+		 *
+		 * @return The bound model
+		 */
+		public Object read(JsonReader in, String className, @Nullable JsonObject buffered) throws IOException
+		{
+			Object model;
+
+			try
+			{
+				model = constructor.newInstance();
+			}
+			catch (Exception e)
+			{
+				throw new JsonParseException("Could not instantiate " + constructor.getDeclaringClass(), e);
+			}
+
+			if (classField != null)
+			{
+				classField.set(model, className);
+			}
+
+			if (buffered != null)
+			{
+				for (Map.Entry<String, JsonElement> entry : buffered.entrySet())
+				{
+					BoundField field = fields.get(entry.getKey());
+
+					if (field != null)
+					{
+						field.set(model, field.adapter.fromJsonTree(entry.getValue()));
+					}
+				}
+			}
+
+			while (in.hasNext())
+			{
+				BoundField field = fields.get(in.nextName());
+
+				if (field != null)
+				{
+					field.set(model, field.adapter.read(in));
+				}
+				else
+				{
+					in.skipValue();
+				}
+			}
+
+			in.endObject();
+			return model;
+		}
+	}
+
+	private static class BoundField
+	{
+		private final Field field;
+		private final TypeAdapter<?> adapter;
+		private final boolean primitive;
+
+		public BoundField(Field field, TypeAdapter<?> adapter)
+		{
+			this.field = field;
+			this.adapter = adapter;
+			this.primitive = field.getType().isPrimitive();
+		}
+
+		public void set(Object model, @Nullable Object value)
+		{
+			if (value == null && primitive)
+			{
+				return;
+			}
+
+			try
+			{
+				field.set(model, value);
+			}
+			catch (IllegalAccessException e)
+			{
+				throw new JsonParseException(e);
+			}
+		}
+	}
+}
@@ -1,17 +1,20 @@
 package com.cube.storm.ui.lib.processor;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.cube.storm.ui.lib.helper.LocaleHelper;
 import com.cube.storm.ui.model.property.TextProperty;
 import com.cube.storm.util.lib.processor.Processor;
 
-import java.util.Locale;
+import java.util.Map;
 
 /**
  * Processor class used for dealing with {@link com.cube.storm.ui.model.property.TextProperty#content} strings by processing them
  * into a useful string.
  *
- * This class defaults to outputting the input
+ * This class defaults to outputting the content for the language of the default locale, falling back to the languages
+ * in {@link LocaleHelper#getLanguages()}. The result is cached on the text property until the locale changes.
  *
  * @author Callum Taylor
  * @project Lightning
@@ -21,9 +24,40 @@ public class TextProcessor extends Processor<TextProperty, String>
 	@Nullable
 	@Override public String process(@Nullable TextProperty textProperty)
 	{
-		if (textProperty != null && textProperty.getContent().containsKey(Locale.getDefault().getLanguage()))
+		if (textProperty == null || textProperty.getContent() == null)
 		{
-			return String.valueOf(textProperty.getContent().get(Locale.getDefault().getLanguage()));
+			return "";
+		}
+
+		int generation = LocaleHelper.getGeneration();
+		String resolved = textProperty.getResolvedContent(generation);
+
+		if (resolved == null)
+		{
+			resolved = resolve(textProperty.getContent(), LocaleHelper.getLanguages());
+			textProperty.setResolvedContent(generation, resolved);
+		}
+
+		return resolved;
+	}
+
+	/**
+	 * Resolves the content of a text property for the active locale
+	 *
+	 * @param content The content of the text property, keyed by language code
+	 * @param languages The language codes to try, in order of preference
+	 *
+	 * @return The content for the first language found, or an empty string
+	 */
+	@NonNull
+	protected String resolve(@NonNull Map<String, String> content, @NonNull String[] languages)
+	{
+		for (String language : languages)
+		{
+			if (content.containsKey(language))
+			{
+				return String.valueOf(content.get(language));
+			}
 		}
 
 		return "";
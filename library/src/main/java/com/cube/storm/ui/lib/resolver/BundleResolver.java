@@ -0,0 +1,84 @@
+package com.cube.storm.ui.lib.resolver;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.cube.storm.ui.lib.bundle.ContentBundle;
+import com.cube.storm.util.lib.resolver.Resolver;
+
+import java.io.InputStream;
+
+/**
+ * Resolver that serves files from a {@link ContentBundle}, falling back to another resolver for anything that isn't in the
+ * bundle, such as images and videos. Register it in place of the resolver for the scheme your content uses, so the
+ * existing page uris in {@code app.json} are served from the bundle.
+ * <p/>
+ * <pre>
+ * new UiSettings.Builder(context)
+ * 	.registerUriResolver("assets", new BundleResolver(ContentBundle.open(context.getAssets(), "content.sbundle"), new AssetsResolver(context)))
+ * </pre>
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class BundleResolver extends Resolver
+{
+	protected ContentBundle bundle;
+	protected Resolver fallback;
+
+	/**
+	 * @param bundle The bundle to serve files from
+	 * @param fallback The resolver to use for files that are not in the bundle, or null
+	 */
+	public BundleResolver(@NonNull ContentBundle bundle, @Nullable Resolver fallback)
+	{
+		this.bundle = bundle;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * Gets the path of the file in the bundle for a uri. {@code assets://pages/1.json} and {@code cache://pages/1.json}
+	 * both map to {@code pages/1.json}.
+	 *
+	 * @param uri The uri of the file
+	 *
+	 * @return The path in the bundle
+	 */
+	@NonNull
+	protected String getBundlePath(@NonNull Uri uri)
+	{
+		String host = uri.getHost();
+		String path = uri.getPath();
+		String bundlePath = (host == null ? "" : host) + (path == null ? "" : path);
+
+		while (bundlePath.startsWith("/"))
+		{
+			bundlePath = bundlePath.substring(1);
+		}
+
+		return bundlePath;
+	}
+
+	@Nullable @Override public Uri resolveUri(@NonNull Uri uri)
+	{
+		if (fallback != null)
+		{
+			return fallback.resolveUri(uri);
+		}
+
+		return uri;
+	}
+
+	@Nullable @Override public InputStream resolveFile(@NonNull Uri uri)
+	{
+		InputStream stream = bundle.open(getBundlePath(uri));
+
+		if (stream == null && fallback != null)
+		{
+			return fallback.resolveFile(uri);
+		}
+
+		return stream;
+	}
+}
@@ -1,5 +1,6 @@
 package com.cube.storm.ui.lib.resolver;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.cube.storm.ui.model.Model;
@@ -15,6 +16,7 @@ public class DefaultViewResolver extends ViewResolver
 {
 	protected Class<? extends Model> model;
 	protected Class<? extends ViewHolderFactory> viewHolder;
+	protected ViewHolderFactory viewHolderFactory;
 
 	public DefaultViewResolver(Class<? extends Model> model, Class<? extends ViewHolderFactory> viewHolder)
 	{
@@ -22,6 +24,23 @@ public class DefaultViewResolver extends ViewResolver
 		this.viewHolder = viewHolder;
 	}
 
+	/**
+	 * Creates a resolver with a holder factory instance, so the factory is never created through reflection
+	 *
+	 * @param model The model class
+	 * @param viewHolderFactory The holder factory to use for the model
+	 *
+	 * @return The new resolver
+	 */
+	@NonNull
+	public static DefaultViewResolver withFactory(Class<? extends Model> model, @NonNull ViewHolderFactory viewHolderFactory)
+	{
+		DefaultViewResolver resolver = new DefaultViewResolver(model, viewHolderFactory.getClass());
+		resolver.viewHolderFactory = viewHolderFactory;
+
+		return resolver;
+	}
+
 	@Nullable @Override public Class<? extends Model> resolveModel()
 	{
 		return model;
@@ -31,4 +50,9 @@ public class DefaultViewResolver extends ViewResolver
 	{
 		return viewHolder;
 	}
+
+	@Nullable @Override public ViewHolderFactory resolveViewHolderFactory()
+	{
+		return viewHolderFactory;
+	}
 }
@@ -5,11 +5,11 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.cube.storm.UiSettings;
+import com.cube.storm.ui.lib.helper.StringHelper;
 import com.cube.storm.ui.model.descriptor.PageDescriptor;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 import lombok.AllArgsConstructor;
@@ -30,6 +30,21 @@ public class IntentResolverMap
 {
 	protected Map<IntentOptions, IntentResolver> internalMap = new LinkedHashMap<>();
 
+	/**
+	 * Index of case folded page id to the last registration for that id
+	 */
+	private final Map<String, Registration> pageIdIndex = new HashMap<>();
+
+	/**
+	 * Index of page uri to the resolver registered for that uri
+	 */
+	private final Map<Uri, IntentResolver> pageUriIndex = new HashMap<>();
+
+	/**
+	 * Index of case folded page descriptor id to the last registration for that id
+	 */
+	private final Map<String, Registration> pageDescriptorIndex = new HashMap<>();
+
 	/**
 	 * Registers a page id/name to resolve to a specific intent resolver.
 	 *
@@ -38,7 +53,8 @@ public class IntentResolverMap
 	 */
 	public void registerPageId(@NonNull String pageId, @NonNull IntentResolver resolver)
 	{
-		internalMap.put(new IntentOptions(pageId, null, null), resolver);
+		IntentOptions options = new IntentOptions(pageId, null, null);
+		index(pageIdIndex, StringHelper.foldCase(pageId), options, internalMap.put(options, resolver) == null, resolver);
 	}
 
 	/**
@@ -50,6 +66,7 @@ public class IntentResolverMap
 	public void registerPageUri(@NonNull Uri pageUri, @NonNull IntentResolver resolver)
 	{
 		internalMap.put(new IntentOptions(null, pageUri, null), resolver);
+		pageUriIndex.put(pageUri, resolver);
 	}
 
 	/**
@@ -60,7 +77,32 @@ public class IntentResolverMap
 	 */
 	public void registerPageDescriptor(@NonNull PageDescriptor pageDescriptor, @NonNull IntentResolver resolver)
 	{
-		internalMap.put(new IntentOptions(null, null, pageDescriptor), resolver);
+		IntentOptions options = new IntentOptions(null, null, pageDescriptor);
+		boolean added = internalMap.put(options, resolver) == null;
+
+		if (pageDescriptor.getId() != null)
+		{
+			index(pageDescriptorIndex, StringHelper.foldCase(pageDescriptor.getId()), options, added, resolver);
+		}
+	}
+
+	/**
+	 * Keeps an index in step with {@link #internalMap}. A newly added key is the last registration for its index key. A
+	 * key that was already registered keeps its original position in the map, so it only replaces the indexed resolver if
+	 * it is still the last registration for its index key.
+	 */
+	private void index(Map<String, Registration> index, String key, IntentOptions options, boolean added, IntentResolver resolver)
+	{
+		Registration registration = index.get(key);
+
+		if (added || registration == null)
+		{
+			index.put(key, new Registration(options, resolver));
+		}
+		else if (registration.options.equals(options))
+		{
+			registration.resolver = resolver;
+		}
 	}
 
 	/**
@@ -73,20 +115,13 @@ public class IntentResolverMap
 	@Nullable
 	public IntentResolver resolveIntentResolver(String pageId)
 	{
-		List<Map.Entry<IntentOptions, IntentResolver>> entries = new ArrayList<>(internalMap.entrySet());
-
-		for (int count = entries.size(), index = count - 1; index >= 0; index--)
+		if (pageId == null)
 		{
-			IntentOptions intentOptions = entries.get(index).getKey();
-
-			if (intentOptions.getPageId() != null && pageId != null
-			&& intentOptions.getPageId().equalsIgnoreCase(pageId))
-			{
-				return entries.get(index).getValue();
-			}
+			return null;
 		}
 
-		return null;
+		Registration registration = pageIdIndex.get(StringHelper.foldCase(pageId));
+		return registration == null ? null : registration.resolver;
 	}
 
 	/**
@@ -99,20 +134,12 @@ public class IntentResolverMap
 	@Nullable
 	public IntentResolver resolveIntentResolver(Uri pageUri)
 	{
-		List<Map.Entry<IntentOptions, IntentResolver>> entries = new ArrayList<>(internalMap.entrySet());
-
-		for (int count = entries.size(), index = count - 1; index >= 0; index--)
+		if (pageUri == null)
 		{
-			IntentOptions intentOptions = entries.get(index).getKey();
-
-			if (intentOptions.getPageUri() != null && pageUri != null
-			&& intentOptions.getPageUri().equals(pageUri))
-			{
-				return entries.get(index).getValue();
-			}
+			return null;
 		}
 
-		return null;
+		return pageUriIndex.get(pageUri);
 	}
 
 	/**
@@ -125,20 +152,13 @@ public class IntentResolverMap
 	@Nullable
 	public IntentResolver resolveIntentResolver(PageDescriptor pageDescriptor)
 	{
-		List<Map.Entry<IntentOptions, IntentResolver>> entries = new ArrayList<>(internalMap.entrySet());
-
-		for (int count = entries.size(), index = count - 1; index >= 0; index--)
+		if (pageDescriptor == null || pageDescriptor.getId() == null)
 		{
-			IntentOptions intentOptions = entries.get(index).getKey();
-
-			if (intentOptions.getPageDescriptor() != null && pageDescriptor != null
-			&& intentOptions.getPageDescriptor().getId().equalsIgnoreCase(pageDescriptor.getId()))
-			{
-				return entries.get(index).getValue();
-			}
+			return null;
 		}
 
-		return null;
+		Registration registration = pageDescriptorIndex.get(StringHelper.foldCase(pageDescriptor.getId()));
+		return registration == null ? null : registration.resolver;
 	}
 
 	@NoArgsConstructor
@@ -150,4 +170,11 @@ public class IntentResolverMap
 		protected Uri pageUri;
 		protected PageDescriptor pageDescriptor;
 	}
+
+	@AllArgsConstructor
+	private static class Registration
+	{
+		protected IntentOptions options;
+		protected IntentResolver resolver;
+	}
 }
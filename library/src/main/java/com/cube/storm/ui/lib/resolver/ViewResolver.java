@@ -18,4 +18,13 @@ public abstract class ViewResolver
 
 	@Nullable
 	public abstract Class<? extends ViewHolderFactory> resolveViewHolder();
+
+	/**
+	 * @return The instance of {@link #resolveViewHolder()} to use, or null to create it through reflection
+	 */
+	@Nullable
+	public ViewHolderFactory resolveViewHolderFactory()
+	{
+		return null;
+	}
 }
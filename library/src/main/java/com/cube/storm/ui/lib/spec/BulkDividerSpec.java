@@ -0,0 +1,28 @@
+package com.cube.storm.ui.lib.spec;
+
+import androidx.annotation.NonNull;
+
+import com.cube.storm.ui.model.Model;
+import com.cube.storm.ui.model.list.ListItem;
+
+import java.util.List;
+
+/**
+ * {@link DividerSpec} that decides the dividers for the whole list at once. {@link com.cube.storm.ui.controller.adapter.StormListAdapter}
+ * calls {@link #getDividers(List)} once per list instead of calling {@link #shouldAddDivider(int, List)} for every position.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public interface BulkDividerSpec extends DividerSpec
+{
+	/**
+	 * Gets the dividers to add to the list
+	 *
+	 * @param items The items of the list, without dividers
+	 *
+	 * @return Array the same size as {@code items}, containing the divider to add after each item, or null for no divider
+	 */
+	@NonNull
+	public ListItem[] getDividers(@NonNull List<Model> items);
+}
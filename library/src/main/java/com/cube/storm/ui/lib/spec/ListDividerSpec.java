@@ -1,5 +1,6 @@
 package com.cube.storm.ui.lib.spec;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.cube.storm.ui.model.Model;
@@ -15,7 +16,7 @@ import java.util.List;
  * @author Callum Taylor
  * @project LightningUi
  */
-public class ListDividerSpec implements DividerSpec
+public class ListDividerSpec implements BulkDividerSpec
 {
 	@Nullable
 	@Override public ListItem shouldAddDivider(int position, List<Model> items)
@@ -35,4 +36,17 @@ public class ListDividerSpec implements DividerSpec
 
 		return null;
 	}
+
+	@NonNull
+	@Override public ListItem[] getDividers(@NonNull List<Model> items)
+	{
+		ListItem[] dividers = new ListItem[items.size()];
+
+		for (int position = 0, count = items.size(); position < count; position++)
+		{
+			dividers[position] = shouldAddDivider(position, items);
+		}
+
+		return dividers;
+	}
 }
@@ -5,15 +5,22 @@ import android.os.Parcel;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.cube.storm.ui.lib.helper.StringHelper;
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.descriptor.PageDescriptor;
 import com.cube.storm.ui.model.page.Page;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.experimental.Accessors;
 
 /**
@@ -44,7 +51,8 @@ import lombok.experimental.Accessors;
  * @author Callum Taylor
  * @project LightningUi
  */
-@NoArgsConstructor @AllArgsConstructor
+@GenerateTypeAdapter
+@NoArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class App extends Model
 {
@@ -52,6 +60,46 @@ public class App extends Model
 	protected String pack;
 	protected Collection<PageDescriptor> map;
 
+	/**
+	 * Lookup indexes for {@link #map}, built on first use and dropped when the map is replaced
+	 */
+	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+	private transient volatile PageIndex pageIndex;
+
+	public App(String vector, String pack, Collection<PageDescriptor> map)
+	{
+		this.vector = vector;
+		this.pack = pack;
+		this.map = map;
+	}
+
+	public App setMap(Collection<PageDescriptor> map)
+	{
+		this.map = map;
+		this.pageIndex = null;
+		return this;
+	}
+
+	/**
+	 * Gets the lookup indexes for the current map, rebuilding them if the map has been replaced or changed size
+	 *
+	 * @return The indexes
+	 */
+	@NonNull
+	protected PageIndex getPageIndex()
+	{
+		Collection<PageDescriptor> map = this.map;
+		PageIndex index = pageIndex;
+
+		if (index == null || index.map != map || index.size != (map == null ? 0 : map.size()))
+		{
+			index = new PageIndex(map);
+			pageIndex = index;
+		}
+
+		return index;
+	}
+
 	@Override public int describeContents()
 	{
 		return 0;
@@ -65,47 +113,98 @@ public class App extends Model
 	@Nullable
 	public PageDescriptor findPageDescriptor(@NonNull Uri page)
 	{
-		for (PageDescriptor pageDescriptor : getMap())
-		{
-			if (page.toString().equals(pageDescriptor.getSrc()))
-			{
-				return pageDescriptor;
-			}
-		}
-
-		return null;
+		PageIndex index = getPageIndex();
+		return index.get(index.bySrc.get(page.toString()));
 	}
 
 	@Nullable
 	public PageDescriptor findPageDescriptor(@NonNull Page page)
 	{
-		for (PageDescriptor pageDescriptor : getMap())
+		// TODO: Server needs to return IDs for page descriptors in app.json
+		PageIndex index = getPageIndex();
+		return index.get(index.byId.get(page.getId()));
+	}
+
+	/**
+	 * Finds the first page descriptor in the map whose name matches, or whose id matches ignoring case
+	 *
+	 * @param nameOrId The name or id of the page
+	 *
+	 * @return The page descriptor, or null
+	 */
+	@Nullable
+	public PageDescriptor findPageDescriptor(@NonNull String nameOrId)
+	{
+		PageIndex index = getPageIndex();
+		Integer byName = index.byName.get(nameOrId);
+		Integer byId = index.byFoldedId.get(StringHelper.foldCase(nameOrId));
+
+		if (byName == null || (byId != null && byId < byName))
 		{
-			// TODO: Server needs to return IDs for page descriptors in app.json
-			if (pageDescriptor.getId() != null && pageDescriptor.getId().equals(page.getId()))
-			{
-				return pageDescriptor;
-			}
+			return index.get(byId);
 		}
 
-		return null;
+		return index.get(byName);
 	}
 
-	@Nullable
-	public PageDescriptor findPageDescriptor(@NonNull String nameOrId)
+	/**
+	 * Hash indexes of the page descriptors in the map. Each index maps to the position of the first matching descriptor,
+	 * so lookups return the same descriptor as a linear scan of the map.
+	 */
+	protected static class PageIndex
 	{
-		for (PageDescriptor pageDescriptor : getMap())
+		private final Collection<PageDescriptor> map;
+		private final int size;
+		private final PageDescriptor[] descriptors;
+		private final Map<String, Integer> bySrc;
+		private final Map<String, Integer> byId;
+		private final Map<String, Integer> byFoldedId;
+		private final Map<String, Integer> byName;
+
+		public PageIndex(@Nullable Collection<PageDescriptor> map)
 		{
-			if (pageDescriptor.getName() != null && pageDescriptor.getName().equals(nameOrId))
+			this.map = map;
+			this.size = map == null ? 0 : map.size();
+			this.descriptors = map == null ? new PageDescriptor[0] : map.toArray(new PageDescriptor[size]);
+
+			int capacity = (int)(descriptors.length / 0.75f) + 1;
+			bySrc = new HashMap<>(capacity);
+			byId = new HashMap<>(capacity);
+			byFoldedId = new HashMap<>(capacity);
+			byName = new HashMap<>(capacity);
+
+			for (int position = 0; position < descriptors.length; position++)
 			{
-				return pageDescriptor;
+				PageDescriptor descriptor = descriptors[position];
+
+				if (descriptor == null)
+				{
+					continue;
+				}
+
+				putFirst(bySrc, descriptor.getSrc(), position);
+				putFirst(byId, descriptor.getId(), position);
+				putFirst(byName, descriptor.getName(), position);
+
+				if (descriptor.getId() != null)
+				{
+					putFirst(byFoldedId, StringHelper.foldCase(descriptor.getId()), position);
+				}
 			}
-			else if (pageDescriptor.getId() != null && pageDescriptor.getId().equalsIgnoreCase(nameOrId))
+		}
+
+		@Nullable
+		public PageDescriptor get(@Nullable Integer position)
+		{
+			return position == null ? null : descriptors[position];
+		}
+
+		private static void putFirst(Map<String, Integer> index, @Nullable String key, int position)
+		{
+			if (key != null && !index.containsKey(key))
 			{
-				return pageDescriptor;
+				index.put(key, position);
 			}
 		}
-
-		return null;
 	}
 }
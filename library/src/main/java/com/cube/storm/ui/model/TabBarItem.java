@@ -2,6 +2,7 @@ package com.cube.storm.ui.model;
 
 import android.os.Parcel;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.property.ImageProperty;
 import com.cube.storm.ui.model.property.TextProperty;
 
@@ -19,6 +20,7 @@ import lombok.experimental.Accessors;
  * @author Callum Taylor
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class TabBarItem extends Model
@@ -2,6 +2,7 @@ package com.cube.storm.ui.model.descriptor;
 
 import android.os.Parcel;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.Model;
 
 import lombok.AllArgsConstructor;
@@ -16,6 +17,7 @@ import lombok.experimental.Accessors;
  * @author Callum Taylor
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class PageDescriptor extends Model
@@ -1,11 +1,14 @@
 package com.cube.storm.ui.model.descriptor;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
+
 /**
  * // TODO: Add class description
  *
  * @author Alan Le Fournis
  * @project LightningUi
  */
+@GenerateTypeAdapter
 public class WebPageDescriptor extends PageDescriptor
 {
 }
@@ -2,6 +2,7 @@ package com.cube.storm.ui.model.grid;
 
 import android.os.Parcel;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.list.ListItem;
 
 import java.util.ArrayList;
@@ -18,6 +19,7 @@ import lombok.experimental.Accessors;
  * @author Matt Allen
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class Grid extends GridItem
@@ -2,6 +2,7 @@ package com.cube.storm.ui.model.grid;
 
 import android.os.Parcel;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.property.ImageProperty;
 import com.cube.storm.ui.model.property.LinkProperty;
 
@@ -19,6 +20,7 @@ import lombok.experimental.Accessors;
  * @author Luke Reed
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class ImageGridItem extends GridItem
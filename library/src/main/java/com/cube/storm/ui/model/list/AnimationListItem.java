@@ -3,6 +3,7 @@ package com.cube.storm.ui.model.list;
 import android.os.Parcel;
 import androidx.annotation.Nullable;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.property.AnimationFrame;
 import com.cube.storm.ui.model.property.AnimationImageProperty;
 import com.cube.storm.ui.model.property.TextProperty;
@@ -21,6 +22,7 @@ import lombok.experimental.Accessors;
  * @author Luke Reed
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class AnimationListItem extends ListItem
@@ -2,6 +2,7 @@ package com.cube.storm.ui.model.list;
 
 import android.os.Parcel;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.property.ButtonProperty;
 
 import lombok.AllArgsConstructor;
@@ -16,6 +17,7 @@ import lombok.experimental.Accessors;
  * @author Alan Le Fournis
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class ButtonListItem extends TitleListItem
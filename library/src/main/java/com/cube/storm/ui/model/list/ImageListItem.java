@@ -1,6 +1,7 @@
 package com.cube.storm.ui.model.list;
 
 import android.os.Parcel;
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.property.ImageProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
  * @author Alan Le Fournis
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class ImageListItem extends TitleListItem
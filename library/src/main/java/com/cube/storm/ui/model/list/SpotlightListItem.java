@@ -3,6 +3,7 @@ package com.cube.storm.ui.model.list;
 import android.os.Parcel;
 import androidx.annotation.Nullable;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.property.SpotlightImageProperty;
 
 import java.util.ArrayList;
@@ -19,6 +20,7 @@ import lombok.experimental.Accessors;
  * @author Callum Taylor
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class SpotlightListItem extends ListItem
@@ -2,6 +2,7 @@ package com.cube.storm.ui.model.page;
 
 import android.os.Parcel;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.Model;
 import com.cube.storm.ui.model.grid.Grid;
 
@@ -20,6 +21,7 @@ import lombok.experimental.Accessors;
  * @author Matt Allen
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class GridPage extends Page
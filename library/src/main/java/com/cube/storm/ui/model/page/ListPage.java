@@ -2,6 +2,7 @@ package com.cube.storm.ui.model.page;
 
 import android.os.Parcel;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.list.ListItem;
 import com.cube.storm.ui.model.property.VideoProperty;
 
@@ -23,6 +24,7 @@ import lombok.experimental.Accessors;
  * @author Callum Taylor
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper = false)
 public class ListPage extends Page
@@ -2,6 +2,7 @@ package com.cube.storm.ui.model.page;
 
 import android.os.Parcel;
 
+import com.cube.storm.ui.lib.parser.GenerateTypeAdapter;
 import com.cube.storm.ui.model.descriptor.TabbedPageDescriptor;
 
 import java.util.List;
@@ -18,6 +19,7 @@ import lombok.experimental.Accessors;
  * @author Callum Taylor
  * @project LightningUi
  */
+@GenerateTypeAdapter
 @NoArgsConstructor @AllArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class TabbedPageCollection extends PageCollection
@@ -1,13 +1,16 @@
 package com.cube.storm.ui.model.property;
 
 import android.os.Parcel;
+import androidx.annotation.Nullable;
 
 import java.util.Map;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.experimental.Accessors;
 
 /**
@@ -18,7 +21,7 @@ import lombok.experimental.Accessors;
  * @author Callum Taylor
  * @project LightningUi
  */
-@NoArgsConstructor @AllArgsConstructor
+@NoArgsConstructor
 @Accessors(chain = true) @Data @EqualsAndHashCode(callSuper=false)
 public class TextProperty extends Property
 {
@@ -28,6 +31,50 @@ public class TextProperty extends Property
 
 	protected Map<String, String> content;
 
+	/**
+	 * Content resolved for the active locale by {@link com.cube.storm.ui.lib.processor.TextProcessor}, valid while
+	 * {@link com.cube.storm.ui.lib.helper.LocaleHelper#getGeneration()} matches {@link #resolvedGeneration}
+	 */
+	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private transient String resolvedContent;
+	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private transient volatile int resolvedGeneration = -1;
+
+	public TextProperty(Map<String, String> content)
+	{
+		this.content = content;
+	}
+
+	public TextProperty setContent(Map<String, String> content)
+	{
+		this.content = content;
+		this.resolvedGeneration = -1;
+		return this;
+	}
+
+	/**
+	 * Gets the content resolved for a generation of the active locale
+	 *
+	 * @param generation The generation from {@link com.cube.storm.ui.lib.helper.LocaleHelper#getGeneration()}
+	 *
+	 * @return The resolved content, or null if it has not been resolved for the generation
+	 */
+	@Nullable
+	public String getResolvedContent(int generation)
+	{
+		return resolvedGeneration == generation ? resolvedContent : null;
+	}
+
+	/**
+	 * Caches the content resolved for a generation of the active locale
+	 *
+	 * @param generation The generation from {@link com.cube.storm.ui.lib.helper.LocaleHelper#getGeneration()}
+	 * @param resolvedContent The resolved content
+	 */
+	public void setResolvedContent(int generation, @Nullable String resolvedContent)
+	{
+		this.resolvedContent = resolvedContent;
+		this.resolvedGeneration = generation;
+	}
+
 	@Override public int describeContents()
 	{
 		return 0;
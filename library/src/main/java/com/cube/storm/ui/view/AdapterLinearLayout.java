@@ -3,14 +3,93 @@ package com.cube.storm.ui.view;
 import android.content.Context;
 import androidx.recyclerview.widget.RecyclerView;
 import android.util.AttributeSet;
+import android.util.SparseArray;
 import android.widget.AdapterView.OnItemClickListener;
 import android.widget.LinearLayout;
 
+import java.util.ArrayList;
+
+/**
+ * Linear layout that shows every item of a {@link RecyclerView.Adapter} without scrolling or recycling off screen views.
+ * Holders are kept for each position and rebound in place, and the inserted, removed, moved and changed ranges notified
+ * by the adapter are applied without rebuilding the rest of the layout. Holders that are removed are reused for new items
+ * of the same view type.
+ * <p/>
+ * Holders are bound with {@link RecyclerView.Adapter#onBindViewHolder(RecyclerView.ViewHolder, int)} directly, as their
+ * position and item id would go stale when other items are inserted, removed or moved. The position of a holder is its
+ * index in this layout, and holders shown here have no binding adapter, position or item id of their own.
+ */
 public class AdapterLinearLayout extends LinearLayout
 {
 	private RecyclerView.Adapter mAdapter;
 	private OnItemClickListener mOnClickListener;
 
+	/**
+	 * The holder of each child, in the same order as the children
+	 */
+	private final ArrayList<RecyclerView.ViewHolder> mHolders = new ArrayList<>();
+
+	/**
+	 * Removed holders, keyed by view type
+	 */
+	private final SparseArray<ArrayList<RecyclerView.ViewHolder>> mScrap = new SparseArray<>();
+
+	private final RecyclerView.AdapterDataObserver mObserver = new RecyclerView.AdapterDataObserver()
+	{
+		@Override public void onChanged()
+		{
+			notifyDataSetChanged();
+		}
+
+		@Override public void onItemRangeChanged(int positionStart, int itemCount)
+		{
+			for (int position = positionStart; position < positionStart + itemCount; position++)
+			{
+				bindPosition(position);
+			}
+		}
+
+		@Override public void onItemRangeChanged(int positionStart, int itemCount, Object payload)
+		{
+			onItemRangeChanged(positionStart, itemCount);
+		}
+
+		@Override public void onItemRangeInserted(int positionStart, int itemCount)
+		{
+			for (int position = positionStart; position < positionStart + itemCount; position++)
+			{
+				RecyclerView.ViewHolder holder = obtainHolder(mAdapter.getItemViewType(position));
+				mAdapter.onBindViewHolder(holder, position);
+
+				mHolders.add(position, holder);
+				addView(holder.itemView, position);
+			}
+		}
+
+		@Override public void onItemRangeRemoved(int positionStart, int itemCount)
+		{
+			for (int index = 0; index < itemCount; index++)
+			{
+				removeHolder(positionStart);
+			}
+		}
+
+		@Override public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount)
+		{
+			for (int index = 0; index < itemCount; index++)
+			{
+				int from = fromPosition > toPosition ? fromPosition + index : fromPosition;
+				int to = fromPosition > toPosition ? toPosition + index : toPosition + itemCount - 1;
+
+				RecyclerView.ViewHolder holder = mHolders.remove(from);
+				removeViewAt(from);
+
+				mHolders.add(to, holder);
+				addView(holder.itemView, to);
+			}
+		}
+	};
+
 	public AdapterLinearLayout(Context context)
 	{
 		super(context);
@@ -28,7 +107,26 @@ public class AdapterLinearLayout extends LinearLayout
 
 	public void setAdapter(RecyclerView.Adapter adapter)
 	{
+		if (mAdapter == adapter)
+		{
+			return;
+		}
+
+		if (mAdapter != null)
+		{
+			mAdapter.unregisterAdapterDataObserver(mObserver);
+		}
+
+		removeAllViewsInLayout();
+		mHolders.clear();
+		mScrap.clear();
+
 		this.mAdapter = adapter;
+
+		if (mAdapter != null)
+		{
+			mAdapter.registerAdapterDataObserver(mObserver);
+		}
 	}
 
 	public RecyclerView.Adapter getAdapter()
@@ -36,23 +134,88 @@ public class AdapterLinearLayout extends LinearLayout
 		return mAdapter;
 	}
 
+	/**
+	 * Rebinds every item, reusing the existing holder at each position when its view type has not changed
+	 */
 	public void notifyDataSetChanged()
 	{
-		removeAllViewsInLayout();
+		int count = mAdapter == null ? 0 : mAdapter.getItemCount();
 
-		if (mAdapter != null)
+		while (mHolders.size() > count)
 		{
-			int count = mAdapter.getItemCount();
-			for (int index = 0; index < count; index++)
+			removeHolder(mHolders.size() - 1);
+		}
+
+		for (int position = 0; position < count; position++)
+		{
+			if (position < mHolders.size())
 			{
-				RecyclerView.ViewHolder toAdd = mAdapter.createViewHolder(this, mAdapter.getItemViewType(index));
-				mAdapter.bindViewHolder(toAdd, index);
+				bindPosition(position);
+			}
+			else
+			{
+				RecyclerView.ViewHolder holder = obtainHolder(mAdapter.getItemViewType(position));
+				mAdapter.onBindViewHolder(holder, position);
 
-				if (toAdd != null)
-				{
-					addView(toAdd.itemView);
-				}
+				mHolders.add(holder);
+				addView(holder.itemView);
 			}
 		}
 	}
+
+	/**
+	 * Binds the item at a position to its existing holder, replacing the holder if the view type has changed
+	 */
+	private void bindPosition(int position)
+	{
+		RecyclerView.ViewHolder holder = mHolders.get(position);
+		int viewType = mAdapter.getItemViewType(position);
+
+		if (holder.getItemViewType() != viewType)
+		{
+			removeHolder(position);
+
+			holder = obtainHolder(viewType);
+			mHolders.add(position, holder);
+			addView(holder.itemView, position);
+		}
+
+		mAdapter.onBindViewHolder(holder, position);
+	}
+
+	/**
+	 * Gets a removed holder of the view type, or creates a new one
+	 */
+	private RecyclerView.ViewHolder obtainHolder(int viewType)
+	{
+		ArrayList<RecyclerView.ViewHolder> scrap = mScrap.get(viewType);
+
+		if (scrap != null && !scrap.isEmpty())
+		{
+			return scrap.remove(scrap.size() - 1);
+		}
+
+		return mAdapter.createViewHolder(this, viewType);
+	}
+
+	/**
+	 * Removes the holder at a position and keeps it for reuse
+	 */
+	private void removeHolder(int position)
+	{
+		RecyclerView.ViewHolder holder = mHolders.remove(position);
+		removeViewAt(position);
+
+		mAdapter.onViewRecycled(holder);
+
+		ArrayList<RecyclerView.ViewHolder> scrap = mScrap.get(holder.getItemViewType());
+
+		if (scrap == null)
+		{
+			scrap = new ArrayList<>();
+			mScrap.put(holder.getItemViewType(), scrap);
+		}
+
+		scrap.add(holder);
+	}
 }
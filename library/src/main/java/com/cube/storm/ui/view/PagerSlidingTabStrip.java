@@ -53,6 +53,20 @@ public class PagerSlidingTabStrip extends HorizontalScrollView
 		public Bitmap getPageIconBitmap(int position);
 	}
 
+	/**
+	 * Icon provider that loads its bitmaps in the background. {@link #getPageIconBitmap(int)} returns null until the icon
+	 * has loaded, the tab is shown with its title until then and swapped for the icon once it is delivered to the listener.
+	 */
+	public interface AsyncIconTabProvider extends IconTabProvider
+	{
+		public void setOnPageIconLoadedListener(OnPageIconLoadedListener listener);
+	}
+
+	public interface OnPageIconLoadedListener
+	{
+		public void onPageIconLoaded(int position, Bitmap bitmap);
+	}
+
 	// @formatter:off
 	private static final int[] ATTRS = new int[] {
 		android.R.attr.textSize,
@@ -203,6 +217,11 @@ public class PagerSlidingTabStrip extends HorizontalScrollView
 
 		pager.setOnPageChangeListener(pageListener);
 
+		if (pager.getAdapter() instanceof AsyncIconTabProvider)
+		{
+			((AsyncIconTabProvider)pager.getAdapter()).setOnPageIconLoadedListener(iconLoadedListener);
+		}
+
 		notifyDataSetChanged();
 	}
 
@@ -220,13 +239,17 @@ public class PagerSlidingTabStrip extends HorizontalScrollView
 		{
 			if (pager.getAdapter() instanceof IconTabProvider && !textOnly)
 			{
-				if (((IconTabProvider)pager.getAdapter()).getPageIconResId(i) > 0)
+				IconTabProvider provider = (IconTabProvider)pager.getAdapter();
+				int resId = provider.getPageIconResId(i);
+				Bitmap bitmap = resId > 0 ? null : provider.getPageIconBitmap(i);
+
+				if (resId > 0)
 				{
-					addIconTab(i, ((IconTabProvider)pager.getAdapter()).getPageIconResId(i));
+					addIconTab(i, resId);
 				}
-				else if (((IconTabProvider)pager.getAdapter()).getPageIconBitmap(i) != null)
+				else if (bitmap != null)
 				{
-					addIconTab(i, ((IconTabProvider)pager.getAdapter()).getPageIconBitmap(i));
+					addIconTab(i, bitmap);
 				}
 				else
 				{
@@ -253,6 +276,43 @@ public class PagerSlidingTabStrip extends HorizontalScrollView
 		});
 	}
 
+	private final OnPageIconLoadedListener iconLoadedListener = new OnPageIconLoadedListener()
+	{
+		@Override public void onPageIconLoaded(int position, Bitmap bitmap)
+		{
+			if (textOnly || position >= tabsContainer.getChildCount())
+			{
+				return;
+			}
+
+			android.view.View tab = tabsContainer.getChildAt(position);
+
+			if (tab instanceof ImageButton)
+			{
+				return;
+			}
+
+			if (tab instanceof ImageView)
+			{
+				((ImageView)tab).setImageBitmap(bitmap);
+			}
+			else
+			{
+				// Swap the title shown while the icon was loading, styled the same as updateTabStyles() styles the others
+				tabsContainer.removeViewAt(position);
+				addIconTab(position, bitmap);
+
+				android.view.View iconTab = tabsContainer.getChildAt(position);
+				iconTab.setBackgroundResource(!tabSwitch ? tabBackgroundResId : transparentColorId);
+
+				if (tabSwitch)
+				{
+					iconTab.setSelected(position == pager.getCurrentItem());
+				}
+			}
+		}
+	};
+
 	private void addTextTab(final int position, String title)
 	{
 		TextView tab = new TextView(getContext());
@@ -1,5 +1,10 @@
 package com.cube.storm.ui.view;
 
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -7,33 +12,157 @@ import android.view.ViewGroup;
 import com.cube.storm.ui.R;
 import com.cube.storm.ui.model.property.LinkProperty;
 
+import java.util.ArrayList;
+
 /**
- * // TODO: Add class description
+ * Populates the embedded link buttons of a view. Buttons already in the container are rebound in place, and buttons that
+ * are no longer needed are kept in a small pool shared by all containers, so binding embedded links does not inflate
+ * new buttons once the pool is warm. Buttons of an Activity are dropped from the pool when it is destroyed.
  *
  * @author Callum Taylor
  * @Project LightningUi
  */
 public abstract class Populator
 {
+	/**
+	 * Maximum number of detached buttons kept for reuse
+	 */
+	private static final int MAX_POOL_SIZE = 8;
+
+	/**
+	 * Detached buttons, only used on the main thread
+	 */
+	private static final ArrayList<Button> buttonPool = new ArrayList<>(MAX_POOL_SIZE);
+	private static boolean lifecycleRegistered = false;
+
 	public static void populate(ViewGroup embeddedLinksContainer, Iterable<? extends LinkProperty> linkProperties)
 	{
-		embeddedLinksContainer.setVisibility(View.GONE);
-		embeddedLinksContainer.removeAllViews();
+		int count = 0;
 
 		if (linkProperties != null)
 		{
 			for (LinkProperty linkProperty : linkProperties)
 			{
-				View embeddedLinkView = LayoutInflater.from(embeddedLinksContainer.getContext()).inflate(R.layout.button_embedded_link, embeddedLinksContainer, false);
+				Button button;
+				View child = embeddedLinksContainer.getChildAt(count);
+
+				if (child instanceof Button)
+				{
+					button = (Button)child;
+				}
+				else
+				{
+					button = obtainButton(embeddedLinksContainer);
+					embeddedLinksContainer.addView(button, count);
+				}
+
+				button.populate(linkProperty);
+				count++;
+			}
+		}
+
+		// Detach the buttons that are no longer needed
+		while (embeddedLinksContainer.getChildCount() > count)
+		{
+			View child = embeddedLinksContainer.getChildAt(count);
+			embeddedLinksContainer.removeViewAt(count);
+
+			if (child instanceof Button)
+			{
+				recycleButton((Button)child);
+			}
+		}
+
+		embeddedLinksContainer.setVisibility(count > 0 ? View.VISIBLE : View.GONE);
+	}
+
+	/**
+	 * Gets a detached button created with the same context as the container, or inflates a new one. Buttons from other
+	 * contexts are dropped from the pool, as the button would use the wrong theme.
+	 */
+	private static Button obtainButton(ViewGroup embeddedLinksContainer)
+	{
+		for (int index = buttonPool.size() - 1; index >= 0; index--)
+		{
+			if (buttonPool.get(index).getContext() != embeddedLinksContainer.getContext())
+			{
+				buttonPool.remove(index);
+			}
+		}
+
+		if (!buttonPool.isEmpty())
+		{
+			return buttonPool.remove(buttonPool.size() - 1);
+		}
+
+		View embeddedLinkView = LayoutInflater.from(embeddedLinksContainer.getContext()).inflate(R.layout.button_embedded_link, embeddedLinksContainer, false);
+		return (Button)embeddedLinkView.findViewById(R.id.button);
+	}
+
+	/**
+	 * Keeps a detached button for reuse, replacing the oldest one if the pool is full
+	 */
+	private static void recycleButton(Button button)
+	{
+		registerLifecycleCallbacks(button.getContext());
+		button.setOnClickListener(null);
+
+		if (buttonPool.size() >= MAX_POOL_SIZE)
+		{
+			buttonPool.remove(0);
+		}
+
+		buttonPool.add(button);
+	}
+
+	/**
+	 * Drops the pooled buttons of each Activity when it is destroyed, so the pool does not keep it alive
+	 */
+	private static void registerLifecycleCallbacks(Context context)
+	{
+		if (lifecycleRegistered || !(context.getApplicationContext() instanceof Application))
+		{
+			return;
+		}
 
-				if (embeddedLinkView != null)
+		lifecycleRegistered = true;
+		((Application)context.getApplicationContext()).registerActivityLifecycleCallbacks(new Application.ActivityLifecycleCallbacks()
+		{
+			@Override public void onActivityDestroyed(Activity activity)
+			{
+				for (int index = buttonPool.size() - 1; index >= 0; index--)
 				{
-					Button button = (Button)embeddedLinkView.findViewById(R.id.button);
-					button.populate(linkProperty);
-					embeddedLinksContainer.setVisibility(View.VISIBLE);
-					embeddedLinksContainer.addView(button);
+					if (belongsTo(buttonPool.get(index).getContext(), activity))
+					{
+						buttonPool.remove(index);
+					}
 				}
 			}
+
+			@Override public void onActivityCreated(Activity activity, Bundle savedInstanceState){}
+			@Override public void onActivityStarted(Activity activity){}
+			@Override public void onActivityResumed(Activity activity){}
+			@Override public void onActivityPaused(Activity activity){}
+			@Override public void onActivityStopped(Activity activity){}
+			@Override public void onActivitySaveInstanceState(Activity activity, Bundle outState){}
+		});
+	}
+
+	/**
+	 * @return True if the context is the Activity, or wraps it
+	 */
+	private static boolean belongsTo(Context context, Activity activity)
+	{
+		while (context instanceof ContextWrapper)
+		{
+			if (context == activity)
+			{
+				return true;
+			}
+
+			context = ((ContextWrapper)context).getBaseContext();
 		}
+
+		return false;
 	}
 }
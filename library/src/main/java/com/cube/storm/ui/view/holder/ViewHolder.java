@@ -22,4 +22,13 @@ public abstract class ViewHolder<T> extends RecyclerView.ViewHolder
 	 * @param model The model to populate the view with
 	 */
 	public abstract void populateView(T model);
+
+	/**
+	 * Called when the holder is recycled by {@link com.cube.storm.ui.controller.adapter.StormListAdapter}, before it is
+	 * put into the pool. Use this to save any view state that should be kept for the row.
+	 */
+	public void onRecycled()
+	{
+
+	}
 }
@@ -1,15 +1,47 @@
 package com.cube.storm.ui.view.holder;
 
+import android.view.LayoutInflater;
 import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 /**
  * Controller for the ViewHolder that will populate the view. This will instantiate the ViewHolder
  * with the necessary view which is then retrievable with {@link ViewHolderFactory#getViewHolder()}
+ * <p/>
+ * Factories should override {@link #createViewHolder(ViewGroup, LayoutInflater)}. Factories that only override
+ * {@link #createViewHolder(ViewGroup)} still work, but their holders are never created ahead of time off the main thread.
  *
  * @author Callum Taylor
  * @Project LightningUi Test
  */
 public abstract class ViewHolderFactory
 {
-	public abstract ViewHolder<?> createViewHolder(ViewGroup parent);
+	/**
+	 * Creates the holder on the main thread, with the inflater of the parent's context
+	 *
+	 * @param parent The view the holder will be attached to
+	 *
+	 * @return The new holder
+	 */
+	public ViewHolder<?> createViewHolder(ViewGroup parent)
+	{
+		return createViewHolder(parent, LayoutInflater.from(parent.getContext()));
+	}
+
+	/**
+	 * Creates the holder, inflating its view with the given inflater rather than {@link LayoutInflater#from}. This is
+	 * called on a background thread by {@link com.cube.storm.ui.controller.adapter.ViewHolderPreInflater} with an inflater
+	 * cloned for that thread, so the holder must not use any shared state while it is created.
+	 *
+	 * @param parent The view the holder will be attached to, only used for its layout params
+	 * @param inflater The inflater to inflate the view with
+	 *
+	 * @return The new holder, or null if the factory only supports {@link #createViewHolder(ViewGroup)}
+	 */
+	@Nullable
+	public ViewHolder<?> createViewHolder(@NonNull ViewGroup parent, @NonNull LayoutInflater inflater)
+	{
+		return null;
+	}
 }
@@ -19,9 +19,9 @@ public class GridItemViewHolder extends GridViewHolder<GridItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public GridItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public GridItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.standard_grid_cell_view, parent, false);
+			View view = inflater.inflate(R.layout.standard_grid_cell_view, parent, false);
 			return new GridItemViewHolder(view);
 		}
 	}
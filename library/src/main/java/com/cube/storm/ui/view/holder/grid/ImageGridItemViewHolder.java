@@ -25,9 +25,9 @@ public class ImageGridItemViewHolder extends GridViewHolder<ImageGridItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public ImageGridItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public ImageGridItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.standard_grid_cell_view, parent, false);
+			View view = inflater.inflate(R.layout.standard_grid_cell_view, parent, false);
 			return new ImageGridItemViewHolder(view);
 		}
 	}
@@ -26,9 +26,9 @@ public class StandardGridItemViewHolder extends GridViewHolder<StandardGridItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public StandardGridItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public StandardGridItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.standard_grid_cell_view, parent, false);
+			View view = inflater.inflate(R.layout.standard_grid_cell_view, parent, false);
 			return new StandardGridItemViewHolder(view);
 		}
 	}
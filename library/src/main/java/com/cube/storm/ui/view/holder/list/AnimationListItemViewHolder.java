@@ -28,9 +28,9 @@ public class AnimationListItemViewHolder extends ViewHolder<AnimationListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public AnimationListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public AnimationListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.animated_image_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.animated_image_list_item_view, parent, false);
 			return new AnimationListItemViewHolder(view);
 		}
 	}
@@ -24,9 +24,9 @@ public class AppCollectionItemViewHolder extends ViewHolder<AppCollectionItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public AppCollectionItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public AppCollectionItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.app_collection_item, parent, false);
+			View view = inflater.inflate(R.layout.app_collection_item, parent, false);
 			return new AppCollectionItemViewHolder(view);
 		}
 	}
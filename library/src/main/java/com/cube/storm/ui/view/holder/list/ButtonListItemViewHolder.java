@@ -23,9 +23,9 @@ public class ButtonListItemViewHolder extends ViewHolder<ButtonListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public ButtonListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public ButtonListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.button_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.button_list_item_view, parent, false);
 			return new ButtonListItemViewHolder(view);
 		}
 	}
@@ -28,9 +28,9 @@ public class CheckableListItemViewHolder extends ViewHolder<CheckableListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public CheckableListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public CheckableListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.checkable_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.checkable_list_item_view, parent, false);
 			return new CheckableListItemViewHolder(view);
 		}
 	}
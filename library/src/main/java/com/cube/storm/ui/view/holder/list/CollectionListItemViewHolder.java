@@ -1,14 +1,18 @@
 package com.cube.storm.ui.view.holder.list;
 
+import android.os.Parcelable;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.View.OnClickListener;
 import android.view.ViewGroup;
 import android.widget.LinearLayout;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
-import com.cube.storm.UiSettings;
 import com.cube.storm.ui.R;
-import com.cube.storm.ui.model.list.collection.CollectionItem;
+import com.cube.storm.ui.controller.adapter.StormListAdapter;
+import com.cube.storm.ui.lib.helper.RecycledViewPoolHelper;
 import com.cube.storm.ui.model.list.collection.CollectionListItem;
 import com.cube.storm.ui.view.Populator;
 import com.cube.storm.ui.view.TextView;
@@ -16,11 +20,10 @@ import com.cube.storm.ui.view.ViewClickable;
 import com.cube.storm.ui.view.holder.ViewHolder;
 import com.cube.storm.ui.view.holder.ViewHolderFactory;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * // TODO: Add class description
+ * Holder for {@link CollectionListItem}. The cells are shown in a horizontal {@link RecyclerView} which shares the
+ * {@link RecycledViewPoolHelper} pool with the rest of the lists, and the scroll position of each row is kept by the
+ * adapter of the list the row is in.
  *
  * @author Alan Le Fournis
  * @Project LightningUi
@@ -29,118 +32,169 @@ public class CollectionListItemViewHolder extends ViewHolder<CollectionListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public CollectionListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public CollectionListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.collection_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.collection_list_item_view, parent, false);
 			return new CollectionListItemViewHolder(view);
 		}
 	}
 
-	protected LinearLayout linearLayout;
+	protected RecyclerView recyclerView;
+	protected LinearLayoutManager layoutManager;
+	protected StormListAdapter adapter;
 	protected LinearLayout embeddedLinksContainer;
 	protected TextView header;
 	protected TextView footer;
 
+	/**
+	 * The model the cells are showing, so the cells are not set again when the same row is bound again
+	 */
+	protected CollectionListItem boundModel;
+
+	/**
+	 * The stable id of the row the holder is bound to, or {@link RecyclerView#NO_ID}
+	 */
+	protected long boundItemId = RecyclerView.NO_ID;
+
 	public CollectionListItemViewHolder(View view)
 	{
 		super(view);
 
-		linearLayout = (LinearLayout)view.findViewById(R.id.view_container);
+		recyclerView = (RecyclerView)view.findViewById(R.id.view_container);
 		embeddedLinksContainer = (LinearLayout)view.findViewById(R.id.embedded_links_container);
 		header = (TextView)view.findViewById(R.id.header);
 		footer = (TextView)view.findViewById(R.id.footer);
+
+		layoutManager = new LinearLayoutManager(view.getContext(), LinearLayoutManager.HORIZONTAL, false);
+		layoutManager.setRecycleChildrenOnDetach(true);
+
+		adapter = new CellAdapter();
+		adapter.setDividerSpec(null);
+
+		recyclerView.setLayoutManager(layoutManager);
+	}
+
+	/**
+	 * Connects the cell list to the shared pool and its adapter. This is done on the first bind rather than in the
+	 * constructor, as holders can be created off the main thread by
+	 * {@link com.cube.storm.ui.controller.adapter.ViewHolderPreInflater} and the pool must only be used on the main thread.
+	 */
+	protected void attachAdapter()
+	{
+		if (recyclerView.getAdapter() == null)
+		{
+			recyclerView.setRecycledViewPool(RecycledViewPoolHelper.getInstance(recyclerView.getContext()).getRecycledViewPool());
+			recyclerView.setAdapter(adapter);
+		}
 	}
 
 	@Override public void populateView(CollectionListItem model)
 	{
-		List<View> views = new ArrayList<View>(model.getCells().size());
-		ArrayList<CollectionItem> arrayList = new ArrayList<CollectionItem>();
-		arrayList.addAll(model.getCells());
+		attachAdapter();
+
+		boolean modelChanged = model != boundModel;
 
-		for (int index = 0; index < arrayList.size(); index++)
+		if (modelChanged)
 		{
-			View subView = getView(arrayList.get(index), linearLayout.getChildAt(index));
+			boundModel = model;
+			adapter.setItems(model.getCells());
+			adapter.notifyDataSetChanged();
+		}
+
+		StormListAdapter parentAdapter = getParentAdapter();
 
-			if (subView != null)
+		if (parentAdapter != null)
+		{
+			long itemId = getItemId();
+
+			// Rows that are rebound without being recycled, such as after a change from updateItems, keep their scroll
+			if (itemId != boundItemId)
 			{
-				views.add(subView);
+				if (boundItemId != RecyclerView.NO_ID)
+				{
+					parentAdapter.setNestedState(boundItemId, layoutManager.onSaveInstanceState());
+				}
+
+				Parcelable state = parentAdapter.getNestedState(itemId);
+
+				if (state != null)
+				{
+					layoutManager.onRestoreInstanceState(state);
+					parentAdapter.setNestedState(itemId, null);
+				}
+				else
+				{
+					layoutManager.scrollToPosition(0);
+				}
+
+				boundItemId = itemId;
 			}
 		}
+		else if (modelChanged)
+		{
+			layoutManager.scrollToPosition(0);
+		}
 
 		footer.populate(model.getFooter());
 		header.populate(model.getHeader());
 
-		linearLayout.removeAllViews();
+		Populator.populate(embeddedLinksContainer, model.getEmbeddedLinks());
+	}
+
+	@Override public void onRecycled()
+	{
+		StormListAdapter parentAdapter = getParentAdapter();
 
-		for (View subView : views)
+		if (parentAdapter != null && boundItemId != RecyclerView.NO_ID)
 		{
-			linearLayout.addView(subView);
+			parentAdapter.setNestedState(boundItemId, layoutManager.onSaveInstanceState());
 		}
 
-		linearLayout.refreshDrawableState();
-
-		Populator.populate(embeddedLinksContainer, model.getEmbeddedLinks());
+		boundItemId = RecyclerView.NO_ID;
 	}
 
-	protected View getView(final CollectionItem itemModel, View view)
+	/**
+	 * @return The adapter of the list this row is in, if it is a {@link StormListAdapter} with stable ids. Null when the row
+	 * is shown by an {@link com.cube.storm.ui.view.AdapterLinearLayout}, which keeps every row bound so there is no nested
+	 * state to keep.
+	 */
+	@Nullable
+	protected StormListAdapter getParentAdapter()
 	{
-		if (itemModel != null)
-		{
-			boolean populated = false;
-			ViewHolder<? super CollectionItem> holder = null;
-			Class<? extends ViewHolderFactory> modelViewResolver = UiSettings.getInstance().getViewResolvers().get(itemModel.getClassName()).resolveViewHolder();
+		RecyclerView.Adapter<?> parentAdapter = getBindingAdapter();
 
-			if (view != null && view.getTag() != null)
-			{
-				holder = (ViewHolder<? super CollectionItem>)view.getTag();
+		if (parentAdapter instanceof StormListAdapter && parentAdapter.hasStableIds())
+		{
+			return (StormListAdapter)parentAdapter;
+		}
 
-				// check holder is correct instance type
-				if (holder.getClass().isAssignableFrom(modelViewResolver.getClass()))
-				{
-					holder.populateView(itemModel);
-					populated = true;
-				}
-			}
+		return null;
+	}
 
-			if (view == null || !populated)
-			{
-				try
-				{
-					ViewHolderFactory holderFactory = modelViewResolver.newInstance();
-					holder = (ViewHolder<? super CollectionItem>)holderFactory.createViewHolder((ViewGroup)linearLayout.getParent());
-					view = holder.itemView;
-					holder.populateView(itemModel);
-					view.setTag(holder);
-				}
-				catch (InstantiationException e)
-				{
-					e.printStackTrace();
-				}
-				catch (IllegalAccessException e)
-				{
-					e.printStackTrace();
-				}
-			}
+	/**
+	 * Adapter for the cells, which passes clicks to holders that implement {@link ViewClickable}
+	 */
+	protected static class CellAdapter extends StormListAdapter
+	{
+		@Override public void onBindViewHolder(final ViewHolder viewHolder, final int position)
+		{
+			super.onBindViewHolder(viewHolder, position);
 
-			if (view != null)
+			if (viewHolder instanceof ViewClickable)
 			{
-				final ViewHolder<? super CollectionItem> tmp = holder;
-
-				if (tmp instanceof ViewClickable)
+				viewHolder.itemView.setOnClickListener(new OnClickListener()
 				{
-					view.setOnClickListener(new OnClickListener()
+					@Override public void onClick(View v)
 					{
-						@Override public void onClick(View v)
+						int adapterPosition = viewHolder.getBindingAdapterPosition();
+
+						if (adapterPosition != RecyclerView.NO_POSITION)
 						{
-							((ViewClickable)tmp).onClick(itemModel, v);
+							((ViewClickable)viewHolder).onClick(getItem(adapterPosition), v);
 						}
-					});
-				}
+					}
+				});
 			}
-
-			return view;
 		}
-
-		return null;
 	}
 }
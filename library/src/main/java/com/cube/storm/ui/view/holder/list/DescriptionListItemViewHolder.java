@@ -22,9 +22,9 @@ public class DescriptionListItemViewHolder extends ViewHolder<DescriptionListIte
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public DescriptionListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public DescriptionListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.description_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.description_list_item_view, parent, false);
 			return new DescriptionListItemViewHolder(view);
 		}
 	}
@@ -19,9 +19,9 @@ public class DividerViewHolder extends ViewHolder<Divider>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public DividerViewHolder createViewHolder(ViewGroup parent)
+		@Override public DividerViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.divider, parent, false);
+			View view = inflater.inflate(R.layout.divider, parent, false);
 			return new DividerViewHolder(view);
 		}
 	}
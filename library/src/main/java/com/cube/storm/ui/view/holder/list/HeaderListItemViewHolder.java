@@ -21,9 +21,9 @@ public class HeaderListItemViewHolder extends ViewHolder<HeaderListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public HeaderListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public HeaderListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.header_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.header_list_item_view, parent, false);
 			return new HeaderListItemViewHolder(view);
 		}
 	}
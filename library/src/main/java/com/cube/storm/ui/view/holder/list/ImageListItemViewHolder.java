@@ -21,9 +21,9 @@ public class ImageListItemViewHolder extends ViewHolder<ImageListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public ImageListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public ImageListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.image_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.image_list_item_view, parent, false);
 			return new ImageListItemViewHolder(view);
 		}
 	}
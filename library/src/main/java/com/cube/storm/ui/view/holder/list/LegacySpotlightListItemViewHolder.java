@@ -31,9 +31,9 @@ public class LegacySpotlightListItemViewHolder extends ViewHolder<SpotlightListI
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public LegacySpotlightListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public LegacySpotlightListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.legacy_spotlight_image_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.legacy_spotlight_image_list_item_view, parent, false);
 			return new LegacySpotlightListItemViewHolder(view);
 		}
 	}
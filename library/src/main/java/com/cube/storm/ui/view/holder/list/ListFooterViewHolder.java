@@ -22,9 +22,9 @@ public class ListFooterViewHolder extends ViewHolder<ListFooter>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public ListFooterViewHolder createViewHolder(ViewGroup parent)
+		@Override public ListFooterViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.footer_text_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.footer_text_list_item_view, parent, false);
 			return new ListFooterViewHolder(view);
 		}
 	}
@@ -22,9 +22,9 @@ public class ListHeaderViewHolder extends ViewHolder<ListHeader>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public ListHeaderViewHolder createViewHolder(ViewGroup parent)
+		@Override public ListHeaderViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.header_text_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.header_text_list_item_view, parent, false);
 			return new ListHeaderViewHolder(view);
 		}
 	}
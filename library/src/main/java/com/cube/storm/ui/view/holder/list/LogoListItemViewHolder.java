@@ -23,9 +23,9 @@ public class LogoListItemViewHolder extends ViewHolder<LogoListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public LogoListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public LogoListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.logo_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.logo_list_item_view, parent, false);
 			return new LogoListItemViewHolder(view);
 		}
 	}
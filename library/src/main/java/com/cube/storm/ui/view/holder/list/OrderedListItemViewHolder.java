@@ -22,9 +22,9 @@ public class OrderedListItemViewHolder extends ViewHolder<OrderedListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public OrderedListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public OrderedListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.ordered_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.ordered_list_item_view, parent, false);
 			return new OrderedListItemViewHolder(view);
 		}
 	}
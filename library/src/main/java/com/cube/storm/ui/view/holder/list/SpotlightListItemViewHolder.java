@@ -29,9 +29,9 @@ public class SpotlightListItemViewHolder extends ViewHolder<SpotlightListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public SpotlightListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public SpotlightListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.spotlight_image_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.spotlight_image_list_item_view, parent, false);
 			return new SpotlightListItemViewHolder(view);
 		}
 	}
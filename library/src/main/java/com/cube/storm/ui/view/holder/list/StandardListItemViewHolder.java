@@ -27,9 +27,9 @@ public class StandardListItemViewHolder extends ViewHolder<StandardListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public StandardListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public StandardListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.standard_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.standard_list_item_view, parent, false);
 			return new StandardListItemViewHolder(view);
 		}
 	}
@@ -20,9 +20,9 @@ public class TextListItemViewHolder extends ViewHolder<TextListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public TextListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public TextListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.text_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.text_list_item_view, parent, false);
 			return new TextListItemViewHolder(view);
 		}
 	}
@@ -22,9 +22,9 @@ public class TitleListItemViewHolder extends ViewHolder<TitleListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public TitleListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public TitleListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.title_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.title_list_item_view, parent, false);
 			return new TitleListItemViewHolder(view);
 		}
 	}
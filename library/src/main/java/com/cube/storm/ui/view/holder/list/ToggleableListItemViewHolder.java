@@ -27,9 +27,9 @@ public class ToggleableListItemViewHolder extends ViewHolder<ToggleableListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public ToggleableListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public ToggleableListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.toggleable_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.toggleable_list_item_view, parent, false);
 			return new ToggleableListItemViewHolder(view);
 		}
 	}
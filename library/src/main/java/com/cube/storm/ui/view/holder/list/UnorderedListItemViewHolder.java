@@ -22,9 +22,9 @@ public class UnorderedListItemViewHolder extends ViewHolder<UnorderedListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public UnorderedListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public UnorderedListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.unordered_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.unordered_list_item_view, parent, false);
 			return new UnorderedListItemViewHolder(view);
 		}
 	}
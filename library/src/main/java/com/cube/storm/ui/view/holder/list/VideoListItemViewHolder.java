@@ -38,9 +38,9 @@ public class VideoListItemViewHolder extends ViewHolder<VideoListItem>
 {
 	public static class Factory extends ViewHolderFactory
 	{
-		@Override public VideoListItemViewHolder createViewHolder(ViewGroup parent)
+		@Override public VideoListItemViewHolder createViewHolder(ViewGroup parent, LayoutInflater inflater)
 		{
-			View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.video_list_item_view, parent, false);
+			View view = inflater.inflate(R.layout.video_list_item_view, parent, false);
 			return new VideoListItemViewHolder(view);
 		}
 	}
@@ -0,0 +1,851 @@
+package com.cube.storm.ui.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor that generates a reflection-free {@code ModelTypeAdapter} for every class annotated with
+ * {@code com.cube.storm.ui.lib.parser.GenerateTypeAdapter}, and a single {@code TypeAdapterFactory} that returns them.
+ * <p/>
+ * Annotations are matched by name so this module has no dependency on the library it processes. The name of the
+ * generated factory can be changed with the {@code storm.adapterFactory} processor option, which allows an app module to
+ * generate adapters for its own models alongside the ones shipped with the library.
+ *
+ * @author Callum Taylor
+ * @project LightningUi
+ */
+public class TypeAdapterProcessor extends AbstractProcessor
+{
+	private static final String ANNOTATION = "com.cube.storm.ui.lib.parser.GenerateTypeAdapter";
+	private static final String MODEL = "com.cube.storm.ui.model.Model";
+	private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+	private static final String NO_ARGS_CONSTRUCTOR = "lombok.NoArgsConstructor";
+	private static final String ALL_ARGS_CONSTRUCTOR = "lombok.AllArgsConstructor";
+
+	private static final String OPTION_FACTORY = "storm.adapterFactory";
+	private static final String DEFAULT_FACTORY = "com.cube.storm.ui.lib.parser.GeneratedTypeAdapterFactory";
+
+	private boolean factoryWritten = false;
+
+	@Override public Set<String> getSupportedAnnotationTypes()
+	{
+		return Collections.singleton(ANNOTATION);
+	}
+
+	@Override public Set<String> getSupportedOptions()
+	{
+		return Collections.singleton(OPTION_FACTORY);
+	}
+
+	@Override public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		List<TypeElement> models = new ArrayList<>();
+
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				if (element.getKind() != ElementKind.CLASS)
+				{
+					continue;
+				}
+
+				TypeElement model = (TypeElement)element;
+				String problem = validate(model);
+
+				if (problem != null)
+				{
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "No type adapter generated for " + model.getQualifiedName() + ": " + problem, model);
+					continue;
+				}
+
+				try
+				{
+					writeAdapter(model);
+					models.add(model);
+				}
+				catch (IOException e)
+				{
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write type adapter: " + e.getMessage(), model);
+				}
+			}
+		}
+
+		if (!models.isEmpty())
+		{
+			if (factoryWritten)
+			{
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Type adapters generated in a later round are not registered with the factory");
+			}
+			else
+			{
+				try
+				{
+					writeFactory(models);
+					factoryWritten = true;
+				}
+				catch (IOException e)
+				{
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write type adapter factory: " + e.getMessage());
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return A description of why the model can't have an adapter generated, or null if it can
+	 */
+	private String validate(TypeElement model)
+	{
+		if (model.getModifiers().contains(Modifier.ABSTRACT))
+		{
+			return "class is abstract";
+		}
+
+		for (Element element = model; element instanceof TypeElement; element = element.getEnclosingElement())
+		{
+			if (!element.getModifiers().contains(Modifier.PUBLIC))
+			{
+				return "class is not public";
+			}
+
+			if (((TypeElement)element).getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC))
+			{
+				return "class is a non-static inner class";
+			}
+		}
+
+		if (!extendsModel(model))
+		{
+			return "class does not extend " + MODEL;
+		}
+
+		if (!hasNoArgsConstructor(model))
+		{
+			return "class has no no-args constructor";
+		}
+
+		return null;
+	}
+
+	private boolean extendsModel(TypeElement model)
+	{
+		for (TypeElement type = model; type != null; type = superclass(type))
+		{
+			if (type.getQualifiedName().contentEquals(MODEL))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Checks for a no-args constructor that is declared, implicit, or generated by Lombok. Lombok's constructors are not
+	 * visible to this processor, and {@code @AllArgsConstructor} only generates a no-args constructor for a class with no
+	 * fields of its own.
+	 */
+	private boolean hasNoArgsConstructor(TypeElement model)
+	{
+		if (hasAnnotation(model, NO_ARGS_CONSTRUCTOR))
+		{
+			return true;
+		}
+
+		if (hasAnnotation(model, ALL_ARGS_CONSTRUCTOR))
+		{
+			for (Element element : model.getEnclosedElements())
+			{
+				if (element.getKind() == ElementKind.FIELD && !element.getModifiers().contains(Modifier.STATIC))
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		for (Element element : model.getEnclosedElements())
+		{
+			if (element.getKind() == ElementKind.CONSTRUCTOR && ((ExecutableElement)element).getParameters().isEmpty())
+			{
+				return !element.getModifiers().contains(Modifier.PRIVATE);
+			}
+		}
+
+		return false;
+	}
+
+	private TypeElement superclass(TypeElement type)
+	{
+		TypeMirror superclass = type.getSuperclass();
+
+		if (superclass.getKind() != TypeKind.DECLARED)
+		{
+			return null;
+		}
+
+		return (TypeElement)((DeclaredType)superclass).asElement();
+	}
+
+	private boolean hasAnnotation(Element element, String name)
+	{
+		return getAnnotation(element, name) != null;
+	}
+
+	private AnnotationMirror getAnnotation(Element element, String name)
+	{
+		for (AnnotationMirror mirror : element.getAnnotationMirrors())
+		{
+			if (((TypeElement)mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name))
+			{
+				return mirror;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Collects the serialisable fields of the model and its super classes, keyed by json name. Sub class fields shadow
+	 * super class fields of the same name.
+	 */
+	private List<BoundField> collectFields(TypeElement model)
+	{
+		Map<String, BoundField> byName = new LinkedHashMap<>();
+		List<BoundField> fields = new ArrayList<>();
+		String adapterPackage = packageOf(model);
+
+		for (TypeElement type = model; type != null && !type.getQualifiedName().contentEquals("java.lang.Object"); type = superclass(type))
+		{
+			for (Element element : type.getEnclosedElements())
+			{
+				if (element.getKind() != ElementKind.FIELD)
+				{
+					continue;
+				}
+
+				Set<Modifier> modifiers = element.getModifiers();
+				if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT))
+				{
+					continue;
+				}
+
+				VariableElement variable = (VariableElement)element;
+				BoundField field = new BoundField();
+				field.name = variable.getSimpleName().toString();
+				field.type = variable.asType();
+				field.typeName = typeName(field.type);
+				field.serializedName = field.name;
+
+				AnnotationMirror serializedName = getAnnotation(variable, SERIALIZED_NAME);
+				if (serializedName != null)
+				{
+					for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : serializedName.getElementValues().entrySet())
+					{
+						String key = entry.getKey().getSimpleName().toString();
+
+						if ("value".equals(key))
+						{
+							field.serializedName = (String)entry.getValue().getValue();
+						}
+						else if ("alternate".equals(key))
+						{
+							for (Object alternate : (List<?>)entry.getValue().getValue())
+							{
+								field.alternates.add((String)((AnnotationValue)alternate).getValue());
+							}
+						}
+					}
+				}
+
+				boolean direct = !modifiers.contains(Modifier.PRIVATE) && (modifiers.contains(Modifier.PUBLIC) || packageOf(type).equals(adapterPackage));
+				if (!direct)
+				{
+					field.getter = getterName(type, field);
+					field.setter = setterName(type, field);
+				}
+
+				Set<String> names = new LinkedHashSet<>();
+				names.add(field.serializedName);
+				names.addAll(field.alternates);
+
+				boolean shadowed = false;
+				for (String name : names)
+				{
+					if (byName.containsKey(name))
+					{
+						shadowed = true;
+					}
+				}
+
+				if (shadowed)
+				{
+					continue;
+				}
+
+				for (String name : names)
+				{
+					byName.put(name, field);
+				}
+
+				fields.add(field);
+			}
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Uses an explicitly declared getter if there is one, otherwise the name Lombok generates
+	 */
+	private String getterName(TypeElement type, BoundField field)
+	{
+		String capitalised = capitalise(field.name);
+		boolean bool = field.type.getKind() == TypeKind.BOOLEAN;
+
+		if (declaresMethod(type, "get" + capitalised, 0))
+		{
+			return "get" + capitalised;
+		}
+
+		if (bool)
+		{
+			if (declaresMethod(type, "is" + capitalised, 0))
+			{
+				return "is" + capitalised;
+			}
+
+			return isPrefixed(field.name) ? field.name : "is" + capitalised;
+		}
+
+		return "get" + capitalised;
+	}
+
+	private String setterName(TypeElement type, BoundField field)
+	{
+		String capitalised = capitalise(field.name);
+
+		if (declaresMethod(type, "set" + capitalised, 1))
+		{
+			return "set" + capitalised;
+		}
+
+		if (field.type.getKind() == TypeKind.BOOLEAN && isPrefixed(field.name))
+		{
+			return "set" + field.name.substring(2);
+		}
+
+		return "set" + capitalised;
+	}
+
+	private boolean declaresMethod(TypeElement type, String name, int parameters)
+	{
+		for (Element element : type.getEnclosedElements())
+		{
+			if (element.getKind() == ElementKind.METHOD && element.getSimpleName().contentEquals(name) && ((ExecutableElement)element).getParameters().size() == parameters)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isPrefixed(String name)
+	{
+		return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+	}
+
+	private static String capitalise(String name)
+	{
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private String packageOf(Element element)
+	{
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(element);
+		return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+	}
+
+	/**
+	 * @return The source name of the type, with fully qualified class names and no type annotations
+	 */
+	private String typeName(TypeMirror type)
+	{
+		switch (type.getKind())
+		{
+			case BOOLEAN: return "boolean";
+			case BYTE: return "byte";
+			case SHORT: return "short";
+			case CHAR: return "char";
+			case INT: return "int";
+			case LONG: return "long";
+			case FLOAT: return "float";
+			case DOUBLE: return "double";
+
+			case ARRAY:
+			{
+				return typeName(((ArrayType)type).getComponentType()) + "[]";
+			}
+
+			case WILDCARD:
+			{
+				WildcardType wildcard = (WildcardType)type;
+
+				if (wildcard.getExtendsBound() != null)
+				{
+					return "? extends " + typeName(wildcard.getExtendsBound());
+				}
+				else if (wildcard.getSuperBound() != null)
+				{
+					return "? super " + typeName(wildcard.getSuperBound());
+				}
+
+				return "?";
+			}
+
+			case DECLARED:
+			{
+				DeclaredType declared = (DeclaredType)type;
+				StringBuilder name = new StringBuilder(((TypeElement)declared.asElement()).getQualifiedName());
+
+				if (!declared.getTypeArguments().isEmpty())
+				{
+					name.append('<');
+
+					for (int index = 0; index < declared.getTypeArguments().size(); index++)
+					{
+						if (index > 0)
+						{
+							name.append(", ");
+						}
+
+						name.append(typeName(declared.getTypeArguments().get(index)));
+					}
+
+					name.append('>');
+				}
+
+				return name.toString();
+			}
+
+			default:
+			{
+				throw new IllegalArgumentException("Unsupported field type " + type);
+			}
+		}
+	}
+
+	private static String boxedName(TypeKind kind)
+	{
+		switch (kind)
+		{
+			case BOOLEAN: return "java.lang.Boolean";
+			case BYTE: return "java.lang.Byte";
+			case SHORT: return "java.lang.Short";
+			case CHAR: return "java.lang.Character";
+			case INT: return "java.lang.Integer";
+			case LONG: return "java.lang.Long";
+			case FLOAT: return "java.lang.Float";
+			default: return "java.lang.Double";
+		}
+	}
+
+	private static String adapterName(TypeElement model, String packageName)
+	{
+		String name = model.getQualifiedName().toString();
+
+		if (!packageName.isEmpty())
+		{
+			name = name.substring(packageName.length() + 1);
+		}
+
+		return name.replace('.', '_') + "_TypeAdapter";
+	}
+
+	private void writeAdapter(TypeElement model) throws IOException
+	{
+		String packageName = packageOf(model);
+		String adapterName = adapterName(model, packageName);
+		String modelName = model.getQualifiedName().toString();
+		List<BoundField> fields = collectFields(model);
+
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty())
+		{
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source.append("import com.cube.storm.ui.lib.parser.ModelTypeAdapter;\n");
+		source.append("import com.google.gson.Gson;\n");
+		source.append("import com.google.gson.TypeAdapter;\n");
+		source.append("import com.google.gson.reflect.TypeToken;\n");
+		source.append("import com.google.gson.stream.JsonReader;\n");
+		source.append("import com.google.gson.stream.JsonWriter;\n\n");
+		source.append("import java.io.IOException;\n\n");
+		source.append("/**\n");
+		source.append(" * Type adapter for {@link ").append(modelName).append("}. Generated by ").append(getClass().getSimpleName()).append(", do not edit.\n");
+		source.append(" */\n");
+		source.append("@SuppressWarnings({\"unchecked\", \"deprecation\"})\n");
+		source.append("public final class ").append(adapterName).append(" extends ModelTypeAdapter<").append(modelName).append(">\n");
+		source.append("{\n");
+
+		boolean polymorphic = false;
+
+		for (BoundField field : fields)
+		{
+			if (usesAdapter(field))
+			{
+				source.append("\tprivate final TypeAdapter<").append(adapterTypeName(field)).append("> ").append(field.adapterName()).append(";\n");
+			}
+
+			polymorphic |= isPolymorphic(field);
+		}
+
+		if (polymorphic)
+		{
+			source.append("\tprivate final Gson gson;\n");
+		}
+
+		source.append("\n\tpublic ").append(adapterName).append("(Gson gson)\n");
+		source.append("\t{\n");
+
+		if (polymorphic)
+		{
+			source.append("\t\tthis.gson = gson;\n");
+		}
+
+		for (BoundField field : fields)
+		{
+			if (usesAdapter(field))
+			{
+				String type = adapterTypeName(field);
+				source.append("\t\tthis.").append(field.adapterName()).append(" = gson.getAdapter(");
+
+				if (type.indexOf('<') > -1)
+				{
+					source.append("new TypeToken<").append(type).append(">(){}");
+				}
+				else
+				{
+					source.append(type).append(".class");
+				}
+
+				source.append(");\n");
+			}
+		}
+
+		source.append("\t}\n\n");
+
+		source.append("\t@Override public ").append(modelName).append(" newInstance()\n");
+		source.append("\t{\n");
+		source.append("\t\treturn new ").append(modelName).append("();\n");
+		source.append("\t}\n\n");
+
+		source.append("\t@Override public boolean readField(JsonReader in, String name, ").append(modelName).append(" model) throws IOException\n");
+		source.append("\t{\n");
+		source.append("\t\tswitch (name)\n");
+		source.append("\t\t{\n");
+
+		for (BoundField field : fields)
+		{
+			source.append("\t\t\tcase \"").append(escape(field.serializedName)).append("\":\n");
+
+			for (String alternate : field.alternates)
+			{
+				if (!alternate.equals(field.serializedName))
+				{
+					source.append("\t\t\tcase \"").append(escape(alternate)).append("\":\n");
+				}
+			}
+
+			source.append("\t\t\t{\n");
+			writeRead(source, field);
+			source.append("\t\t\t\treturn true;\n");
+			source.append("\t\t\t}\n");
+		}
+
+		source.append("\t\t\tdefault:\n");
+		source.append("\t\t\t{\n");
+		source.append("\t\t\t\treturn false;\n");
+		source.append("\t\t\t}\n");
+		source.append("\t\t}\n");
+		source.append("\t}\n\n");
+
+		source.append("\t@Override public void writeFields(JsonWriter out, ").append(modelName).append(" model) throws IOException\n");
+		source.append("\t{\n");
+
+		for (BoundField field : fields)
+		{
+			writeWrite(source, field);
+		}
+
+		source.append("\t}\n");
+		source.append("}\n");
+
+		writeSource(processingEnv.getFiler().createSourceFile(qualify(packageName, adapterName), model), source);
+	}
+
+	private static boolean usesAdapter(BoundField field)
+	{
+		switch (field.type.getKind())
+		{
+			case BOOLEAN:
+			case INT:
+			case LONG:
+			case FLOAT:
+			case DOUBLE:
+			{
+				return false;
+			}
+
+			default:
+			{
+				// Strings go through gson's adapter too, so they are read through the string pool when it is registered
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Fields of a non final class or interface type may hold a subclass, which is written with the adapter of its runtime
+	 * type the same as Gson's reflective adapter. Parameterised types are left to their own adapters, which already do
+	 * this for their elements.
+	 */
+	private static boolean isPolymorphic(BoundField field)
+	{
+		if (field.type.getKind() != TypeKind.DECLARED || !((DeclaredType)field.type).getTypeArguments().isEmpty())
+		{
+			return false;
+		}
+
+		Element element = ((DeclaredType)field.type).asElement();
+		return (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.INTERFACE) && !element.getModifiers().contains(Modifier.FINAL);
+	}
+
+	private static String adapterTypeName(BoundField field)
+	{
+		return field.type.getKind().isPrimitive() ? boxedName(field.type.getKind()) : field.typeName;
+	}
+
+	private static String readExpression(BoundField field)
+	{
+		String current = field.getter == null ? "model." + field.name : "model." + field.getter + "()";
+
+		switch (field.type.getKind())
+		{
+			case BOOLEAN: return "readBoolean(in, " + current + ")";
+			case INT: return "readInt(in, " + current + ")";
+			case LONG: return "readLong(in, " + current + ")";
+			case FLOAT: return "readFloat(in, " + current + ")";
+			case DOUBLE: return "readDouble(in, " + current + ")";
+			default: return field.adapterName() + ".read(in)";
+		}
+	}
+
+	private static String assignment(BoundField field, String value)
+	{
+		return field.setter == null ? "model." + field.name + " = " + value + ";" : "model." + field.setter + "(" + value + ");";
+	}
+
+	private static void writeRead(StringBuilder source, BoundField field)
+	{
+		if (field.type.getKind().isPrimitive() && usesAdapter(field))
+		{
+			// Remaining primitives go through gson's boxed adapters, which return null for json nulls
+			source.append("\t\t\t\t").append(boxedName(field.type.getKind())).append(" value = ").append(field.adapterName()).append(".read(in);\n");
+			source.append("\t\t\t\tif (value != null)\n");
+			source.append("\t\t\t\t{\n");
+			source.append("\t\t\t\t\t").append(assignment(field, "value")).append("\n");
+			source.append("\t\t\t\t}\n");
+		}
+		else
+		{
+			source.append("\t\t\t\t").append(assignment(field, readExpression(field))).append("\n");
+		}
+	}
+
+	private static void writeWrite(StringBuilder source, BoundField field)
+	{
+		String value = field.getter == null ? "model." + field.name : "model." + field.getter + "()";
+		String name = "out.name(\"" + escape(field.serializedName) + "\");";
+
+		switch (field.type.getKind())
+		{
+			case BOOLEAN:
+			case INT:
+			case LONG:
+			case DOUBLE:
+			{
+				source.append("\t\t").append(name).append("\n");
+				source.append("\t\tout.value(").append(value).append(");\n");
+				return;
+			}
+
+			case FLOAT:
+			{
+				source.append("\t\t").append(name).append("\n");
+				source.append("\t\tout.value(java.lang.Float.valueOf(").append(value).append("));\n");
+				return;
+			}
+
+			default:
+			{
+				if (field.type.getKind().isPrimitive())
+				{
+					source.append("\t\t").append(name).append("\n");
+					source.append("\t\t").append(field.adapterName()).append(".write(out, ").append(value).append(");\n");
+					return;
+				}
+
+				source.append("\t\tif (").append(value).append(" != null)\n");
+				source.append("\t\t{\n");
+				source.append("\t\t\t").append(name).append("\n");
+
+				if ("java.lang.String".equals(field.typeName))
+				{
+					source.append("\t\t\tout.value(").append(value).append(");\n");
+				}
+				else if (isPolymorphic(field))
+				{
+					source.append("\t\t\twriteRuntimeType(gson, ").append(field.adapterName()).append(", ").append(field.typeName).append(".class, out, ").append(value).append(");\n");
+				}
+				else
+				{
+					source.append("\t\t\t").append(field.adapterName()).append(".write(out, ").append(value).append(");\n");
+				}
+
+				source.append("\t\t}\n");
+			}
+		}
+	}
+
+	private void writeFactory(List<TypeElement> models) throws IOException
+	{
+		String factoryName = processingEnv.getOptions().get(OPTION_FACTORY);
+		if (factoryName == null || factoryName.isEmpty())
+		{
+			factoryName = DEFAULT_FACTORY;
+		}
+
+		int split = factoryName.lastIndexOf('.');
+		String packageName = split > -1 ? factoryName.substring(0, split) : "";
+		String simpleName = factoryName.substring(split + 1);
+
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty())
+		{
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source.append("import com.google.gson.Gson;\n");
+		source.append("import com.google.gson.TypeAdapter;\n");
+		source.append("import com.google.gson.TypeAdapterFactory;\n");
+		source.append("import com.google.gson.reflect.TypeToken;\n\n");
+		source.append("/**\n");
+		source.append(" * Returns the generated type adapters for models annotated with {@code @GenerateTypeAdapter}. Only exact class matches are\n");
+		source.append(" * handled, sub classes of these models are left to gson. Generated by ").append(getClass().getSimpleName()).append(", do not edit.\n");
+		source.append(" */\n");
+		source.append("@SuppressWarnings({\"unchecked\", \"deprecation\"})\n");
+		source.append("public final class ").append(simpleName).append(" implements TypeAdapterFactory\n");
+		source.append("{\n");
+		source.append("\t@Override public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)\n");
+		source.append("\t{\n");
+		source.append("\t\tClass<? super T> rawType = type.getRawType();\n\n");
+
+		for (TypeElement model : models)
+		{
+			String modelPackage = packageOf(model);
+
+			source.append("\t\tif (rawType == ").append(model.getQualifiedName()).append(".class)\n");
+			source.append("\t\t{\n");
+			source.append("\t\t\treturn (TypeAdapter<T>)new ").append(qualify(modelPackage, adapterName(model, modelPackage))).append("(gson);\n");
+			source.append("\t\t}\n\n");
+		}
+
+		source.append("\t\treturn null;\n");
+		source.append("\t}\n");
+		source.append("}\n");
+
+		writeSource(processingEnv.getFiler().createSourceFile(factoryName, models.toArray(new Element[models.size()])), source);
+	}
+
+	private static void writeSource(JavaFileObject file, CharSequence source) throws IOException
+	{
+		Writer writer = file.openWriter();
+
+		try
+		{
+			writer.append(source);
+		}
+		finally
+		{
+			writer.close();
+		}
+	}
+
+	private static String qualify(String packageName, String name)
+	{
+		return packageName.isEmpty() ? name : packageName + "." + name;
+	}
+
+	private static String escape(String value)
+	{
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private static class BoundField
+	{
+		private String name;
+		private String serializedName;
+		private final List<String> alternates = new ArrayList<>();
+		private TypeMirror type;
+		private String typeName;
+		private String getter;
+		private String setter;
+
+		private String adapterName()
+		{
+			return name + "Adapter";
+		}
+	}
+}